@@ -0,0 +1,266 @@
+package bank.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPool {
+
+    public record Settings(int minSize,
+                           int maxSize,
+                           long borrowTimeoutMillis,
+                           long idleTimeoutMillis,
+                           long leakThresholdMillis,
+                           long validationIntervalMillis,
+                           int validationTimeoutSeconds,
+                           long housekeepingIntervalMillis,
+                           int statementCacheSize) {
+
+        public static Settings fromConfig() {
+            return new Settings(
+                    AppConfig.getInt("bank.db.pool.minSize", 2),
+                    AppConfig.getInt("bank.db.pool.maxSize", 10),
+                    AppConfig.getLong("bank.db.pool.borrowTimeoutMs", 30_000),
+                    AppConfig.getLong("bank.db.pool.idleTimeoutMs", 600_000),
+                    AppConfig.getLong("bank.db.pool.leakThresholdMs", 0),
+                    AppConfig.getLong("bank.db.pool.validationIntervalMs", 1_000),
+                    AppConfig.getInt("bank.db.pool.validationTimeoutSeconds", 2),
+                    AppConfig.getLong("bank.db.pool.housekeepingIntervalMs", 30_000),
+                    AppConfig.getInt("bank.db.pool.statementCacheSize", 64)
+            );
+        }
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final Settings settings;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder statementCacheEvictions = new LongAdder();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, Settings settings) {
+        if (settings.minSize() < 0 || settings.maxSize() < 1 || settings.minSize() > settings.maxSize()) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + settings.minSize() + ", max=" + settings.maxSize());
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.maxSize(), true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() throws SQLException {
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                settings.housekeepingIntervalMillis(),
+                settings.housekeepingIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+        fillToMinimum();
+    }
+
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(settings.borrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + settings.borrowTimeoutMillis()
+                        + " ms waiting for a database connection (" + borrowed.size() + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection");
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+            pooled.markBorrowed(settings.leakThresholdMillis() > 0 ? new Throwable("Connection borrowed here") : null);
+            borrowed.add(pooled);
+            return pooled.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    void release(PooledConnection pooled) {
+        try {
+            if (!borrowed.remove(pooled)) {
+                return;
+            }
+            if (closed || totalConnections.get() > settings.maxSize() || !pooled.resetForReuse()) {
+                discard(pooled);
+            } else {
+                pooled.markReturned();
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+        for (PooledConnection inUse : borrowed) {
+            if (borrowed.remove(inUse)) {
+                discard(inUse);
+            }
+        }
+    }
+
+    public int getActiveCount() {
+        return borrowed.size();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions.sum();
+    }
+
+    public double getStatementCacheHitRatio() {
+        long hits = statementCacheHits.sum();
+        long total = hits + statementCacheMisses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private PooledConnection takeValidIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - pooled.getLastReturnedAt();
+            if (idleFor < settings.validationIntervalMillis() || pooled.isValid(settings.validationTimeoutSeconds())) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        totalConnections.incrementAndGet();
+        try {
+            Connection physical = DriverManager.getConnection(url, user, password);
+            StatementCache statementCache = new StatementCache(settings.statementCacheSize(),
+                    statementCacheHits, statementCacheMisses, statementCacheEvictions);
+            return new PooledConnection(this, physical, statementCache);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        pooled.closePhysical();
+    }
+
+    private void fillToMinimum() throws SQLException {
+        while (!closed && totalConnections.get() < settings.minSize()) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            try {
+                if (totalConnections.get() < settings.minSize()) {
+                    idle.offerLast(openConnection());
+                }
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void housekeep() {
+        evictIdle();
+        detectLeaks();
+        try {
+            fillToMinimum();
+        } catch (SQLException e) {
+            System.out.println("Connection pool could not reach its minimum size: " + e.getMessage());
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> iterator = idle.descendingIterator();
+        while (iterator.hasNext() && totalConnections.get() > settings.minSize()) {
+            PooledConnection pooled = iterator.next();
+            if (now - pooled.getLastReturnedAt() > settings.idleTimeoutMillis() && idle.removeLastOccurrence(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    private void detectLeaks() {
+        if (settings.leakThresholdMillis() <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : borrowed) {
+            Throwable site = pooled.getBorrowSite();
+            long heldFor = now - pooled.getBorrowedAt();
+            if (site != null && !pooled.isLeakReported() && heldFor > settings.leakThresholdMillis()) {
+                pooled.setLeakReported(true);
+                System.out.println("Possible connection leak: connection held for " + heldFor + " ms, borrowed at "
+                        + borrowerOf(site));
+            }
+        }
+    }
+
+    private static String borrowerOf(Throwable site) {
+        for (StackTraceElement frame : site.getStackTrace()) {
+            if (!frame.getClassName().startsWith(ConnectionPool.class.getPackageName() + ".")) {
+                return frame.toString();
+            }
+        }
+        return "unknown";
+    }
+}
@@ -1,27 +1,30 @@
 package bank.config;
 
-import com.sun.security.jgss.GSSUtil;
-
 import java.sql.Connection;
-import java.sql.Driver;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 public class DatabaseConnection {
 
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/card_db?rewriteBatchedStatements=true&useCursorFetch=true";
 
     private static DatabaseConnection instance;
-    private Connection connection;
+    private final ConnectionPool pool;
 
     private DatabaseConnection() {
+        pool = new ConnectionPool(
+                AppConfig.getString("bank.db.url", DEFAULT_URL),
+                AppConfig.getString("bank.db.user", "root"),
+                System.getProperty("bank.db.password", ""),
+                ConnectionPool.Settings.fromConfig()
+        );
         try{
-            connection = DriverManager.getConnection("jdbc:mysql://localhost:3306/card_db", "root", "");
+            pool.start();
         }catch(SQLException e){
             System.out.println("Failed to connect to database due to: " + e.getMessage());
         }
     }
 
-    public static DatabaseConnection getInstance() {
+    public static synchronized DatabaseConnection getInstance() {
         if (instance == null) {
             instance = new DatabaseConnection();
         }
@@ -29,11 +32,14 @@ public class DatabaseConnection {
     }
 
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()){
-            connection = DriverManager.getConnection("jdbc:mysql://localhost:3306/card_db", "root", "");
-        }
-        return connection;
+        return pool.borrow();
     }
 
+    public ConnectionPool getPool() {
+        return pool;
+    }
 
+    public void shutdown() {
+        pool.shutdown();
+    }
 }
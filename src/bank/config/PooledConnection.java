@@ -0,0 +1,150 @@
+package bank.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class PooledConnection {
+
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final StatementCache statementCache;
+    private volatile long lastReturnedAt;
+    private volatile long borrowedAt;
+    private volatile Throwable borrowSite;
+    private volatile boolean leakReported;
+
+    PooledConnection(ConnectionPool pool, Connection physical, StatementCache statementCache) {
+        this.pool = pool;
+        this.physical = physical;
+        this.statementCache = statementCache;
+        this.lastReturnedAt = System.currentTimeMillis();
+    }
+
+    Connection lease() {
+        AtomicBoolean returned = new AtomicBoolean(false);
+        List<Statement> opened = new ArrayList<>();
+        Connection[] self = new Connection[1];
+        self[0] = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (returned.compareAndSet(false, true)) {
+                                closeOpenedStatements(opened);
+                                pool.release(this);
+                            }
+                            return null;
+                        case "isClosed":
+                            return returned.get() || physical.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "PooledConnection[" + physical + "]";
+                        default:
+                            break;
+                    }
+                    if (returned.get()) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    Object result;
+                    if (method.getName().equals("prepareStatement") && args.length == 1) {
+                        result = statementCache.checkout(physical, self[0], (String) args[0]);
+                    } else {
+                        try {
+                            result = method.invoke(physical, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                    if (result instanceof Statement statement) {
+                        opened.add(statement);
+                        QueryDeadline.apply(statement);
+                    }
+                    return result;
+                });
+        return self[0];
+    }
+
+    void markBorrowed(Throwable site) {
+        this.borrowedAt = System.currentTimeMillis();
+        this.borrowSite = site;
+        this.leakReported = false;
+    }
+
+    void markReturned() {
+        this.lastReturnedAt = System.currentTimeMillis();
+        this.borrowSite = null;
+    }
+
+    boolean isValid(int timeoutSeconds) {
+        try {
+            return !physical.isClosed() && physical.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    boolean resetForReuse() {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void closePhysical() {
+        statementCache.clear();
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            System.out.println("Failed to close database connection: " + e.getMessage());
+        }
+    }
+
+    private static void closeOpenedStatements(List<Statement> opened) {
+        for (Statement statement : opened) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+        opened.clear();
+    }
+
+    long getLastReturnedAt() {
+        return lastReturnedAt;
+    }
+
+    long getBorrowedAt() {
+        return borrowedAt;
+    }
+
+    Throwable getBorrowSite() {
+        return borrowSite;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+}
@@ -0,0 +1,38 @@
+package bank.config;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+public final class QueryDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private QueryDeadline() {
+    }
+
+    public static <T> T callWithin(long deadlineNanos, Callable<T> task) throws Exception {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+
+    static void apply(Statement statement) throws SQLException {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return;
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        long seconds = (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        statement.setQueryTimeout((int) Math.max(1, seconds));
+    }
+}
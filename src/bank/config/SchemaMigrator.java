@@ -0,0 +1,150 @@
+package bank.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SchemaMigrator {
+
+    public record Migration(int version, String description, List<String> statements) {}
+
+    private static final int ER_TABLE_EXISTS = 1050;
+    private static final int ER_DUP_FIELDNAME = 1060;
+    private static final int ER_DUP_KEYNAME = 1061;
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Create core tables", List.of(
+                    """
+                    CREATE TABLE IF NOT EXISTS clients (
+                        id VARCHAR(36) NOT NULL PRIMARY KEY,
+                        name VARCHAR(100) NOT NULL,
+                        email VARCHAR(150) NOT NULL,
+                        phone VARCHAR(30) NOT NULL
+                    ) ENGINE=InnoDB""",
+                    """
+                    CREATE TABLE IF NOT EXISTS cards (
+                        id VARCHAR(36) NOT NULL PRIMARY KEY,
+                        number VARCHAR(19) NOT NULL,
+                        card_type ENUM('DEBIT', 'CREDIT', 'PREPAID') NOT NULL,
+                        expiration_date DATE NOT NULL,
+                        status ENUM('ACTIVE', 'SUSPENDED', 'BLOCKED') NOT NULL,
+                        client_id VARCHAR(36) NOT NULL,
+                        daily_limit DECIMAL(15, 2) NULL,
+                        monthly_limit DECIMAL(15, 2) NULL,
+                        interest_rate DECIMAL(5, 2) NULL,
+                        available_balance DECIMAL(15, 2) NULL,
+                        CONSTRAINT fk_cards_client FOREIGN KEY (client_id) REFERENCES clients (id) ON DELETE CASCADE
+                    ) ENGINE=InnoDB""",
+                    """
+                    CREATE TABLE IF NOT EXISTS operations (
+                        id VARCHAR(36) NOT NULL PRIMARY KEY,
+                        card_id VARCHAR(36) NOT NULL,
+                        operation_date DATETIME NOT NULL,
+                        amount DECIMAL(15, 2) NOT NULL,
+                        type ENUM('ACHAT', 'RETRAIT', 'PAIEMENTENLIGNE') NOT NULL,
+                        location VARCHAR(255) NULL,
+                        CONSTRAINT fk_operations_card FOREIGN KEY (card_id) REFERENCES cards (id) ON DELETE CASCADE
+                    ) ENGINE=InnoDB""",
+                    """
+                    CREATE TABLE IF NOT EXISTS alerts (
+                        id VARCHAR(36) NOT NULL PRIMARY KEY,
+                        card_id VARCHAR(36) NOT NULL,
+                        description VARCHAR(500) NOT NULL,
+                        level ENUM('INFO', 'AVERTISSEMENT', 'CRITIQUE') NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        CONSTRAINT fk_alerts_card FOREIGN KEY (card_id) REFERENCES cards (id) ON DELETE CASCADE
+                    ) ENGINE=InnoDB"""
+            )),
+            new Migration(2, "Add indexes for DAO lookups", List.of(
+                    "CREATE UNIQUE INDEX uk_clients_email ON clients (email)",
+                    "CREATE INDEX idx_clients_phone ON clients (phone)",
+                    "CREATE INDEX idx_clients_name ON clients (name)",
+                    "CREATE UNIQUE INDEX uk_cards_number ON cards (number)",
+                    "CREATE INDEX idx_cards_client ON cards (client_id)",
+                    "CREATE INDEX idx_cards_status ON cards (status)",
+                    "CREATE INDEX idx_operations_card_date ON operations (card_id, operation_date)",
+                    "CREATE INDEX idx_operations_date ON operations (operation_date)",
+                    "CREATE INDEX idx_operations_type_date ON operations (type, operation_date)",
+                    "CREATE INDEX idx_alerts_level_created ON alerts (level, created_at)",
+                    "CREATE INDEX idx_alerts_card_created ON alerts (card_id, created_at)"
+            )),
+            new Migration(3, "Add index for alert journal paging", List.of(
+                    "CREATE INDEX idx_alerts_created ON alerts (created_at)"
+            )),
+            new Migration(4, "Track repeated alert occurrences", List.of(
+                    "ALTER TABLE alerts ADD COLUMN occurrences INT NOT NULL DEFAULT 1",
+                    "ALTER TABLE alerts ADD COLUMN last_seen_at TIMESTAMP NULL"
+            ))
+    );
+
+    private final DatabaseConnection dbconfig;
+
+    public SchemaMigrator(DatabaseConnection dbconfig) {
+        this.dbconfig = dbconfig;
+    }
+
+    public int migrate() throws SQLException {
+        int applied = 0;
+        try (Connection connection = dbconfig.getConnection()) {
+            ensureVersionTable(connection);
+            Set<Integer> appliedVersions = findAppliedVersions(connection);
+            for (Migration migration : MIGRATIONS) {
+                if (appliedVersions.contains(migration.version())) {
+                    continue;
+                }
+                apply(connection, migration);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private void ensureVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS schema_version (
+                        version INT NOT NULL PRIMARY KEY,
+                        description VARCHAR(200) NOT NULL,
+                        applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                    ) ENGINE=InnoDB""");
+        }
+    }
+
+    private Set<Integer> findAppliedVersions(Connection connection) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT version FROM schema_version")) {
+            while (result.next()) {
+                versions.add(result.getInt("version"));
+            }
+        }
+        return versions;
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        System.out.println("Applying schema migration V" + migration.version() + ": " + migration.description());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : migration.statements()) {
+                try {
+                    statement.execute(sql);
+                } catch (SQLException e) {
+                    if (e.getErrorCode() != ER_TABLE_EXISTS && e.getErrorCode() != ER_DUP_FIELDNAME
+                            && e.getErrorCode() != ER_DUP_KEYNAME) {
+                        throw new SQLException("Migration V" + migration.version() + " failed: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "INSERT INTO schema_version (version, description) VALUES (?, ?)")) {
+            preparedStatement.setInt(1, migration.version());
+            preparedStatement.setString(2, migration.description());
+            preparedStatement.executeUpdate();
+        }
+    }
+}
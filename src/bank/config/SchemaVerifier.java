@@ -0,0 +1,149 @@
+package bank.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class SchemaVerifier {
+
+    public record RequiredIndex(String table, List<String> columns, String usedBy) {}
+
+    public record QueryPlanCheck(String description, String sql, List<Object> parameters) {}
+
+    private static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("clients", List.of("email"), "ClientDAO.findByEmail"),
+            new RequiredIndex("clients", List.of("phone"), "ClientDAO.findByPhone"),
+            new RequiredIndex("cards", List.of("number"), "CardDAO.findByNumber"),
+            new RequiredIndex("cards", List.of("client_id"), "CardDAO.findByClientId"),
+            new RequiredIndex("cards", List.of("status"), "CardDAO.findByStatus"),
+            new RequiredIndex("operations", List.of("card_id", "operation_date"), "OperationDAO.findByCardIdAndDateRange"),
+            new RequiredIndex("operations", List.of("operation_date"), "OperationDAO.findByDateRange"),
+            new RequiredIndex("operations", List.of("type", "operation_date"), "OperationDAO.findByType"),
+            new RequiredIndex("alerts", List.of("level", "created_at"), "AlertDAO.findByLevel"),
+            new RequiredIndex("alerts", List.of("card_id", "created_at"), "AlertDAO.findByCardId"),
+            new RequiredIndex("alerts", List.of("created_at"), "AlertDAO.findAll(page)")
+    );
+
+    private static List<QueryPlanCheck> planChecks() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp hourAgo = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        return List.of(
+                new QueryPlanCheck("operations by card and date range",
+                        "SELECT * FROM operations WHERE card_id = ? AND operation_date BETWEEN ? AND ? ORDER BY operation_date DESC",
+                        List.of("probe", hourAgo, now)),
+                new QueryPlanCheck("operations by date range",
+                        "SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? ORDER BY operation_date DESC",
+                        List.of(hourAgo, now)),
+                new QueryPlanCheck("operations by type",
+                        "SELECT * FROM operations WHERE type = ? ORDER BY operation_date DESC",
+                        List.of("ACHAT")),
+                new QueryPlanCheck("cards by client",
+                        "SELECT * FROM cards WHERE client_id = ?",
+                        List.of("probe")),
+                new QueryPlanCheck("card by number",
+                        "SELECT * FROM cards WHERE number = ?",
+                        List.of("0000-0000-0000-0000")),
+                new QueryPlanCheck("alerts by level",
+                        "SELECT * FROM alerts WHERE level = ? ORDER BY created_at DESC",
+                        List.of("CRITIQUE"))
+        );
+    }
+
+    private final DatabaseConnection dbconfig;
+
+    public SchemaVerifier(DatabaseConnection dbconfig) {
+        this.dbconfig = dbconfig;
+    }
+
+    public List<String> verify() throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        try (Connection connection = dbconfig.getConnection()) {
+            warnings.addAll(checkIndexes(connection));
+            warnings.addAll(checkQueryPlans(connection));
+        }
+        return warnings;
+    }
+
+    private List<String> checkIndexes(Connection connection) throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+
+        for (RequiredIndex required : REQUIRED_INDEXES) {
+            List<List<String>> indexes = indexesByTable.get(required.table());
+            if (indexes == null) {
+                indexes = readIndexes(metaData, connection.getCatalog(), required.table());
+                indexesByTable.put(required.table(), indexes);
+            }
+            boolean covered = indexes.stream().anyMatch(columns -> startsWith(columns, required.columns()));
+            if (!covered) {
+                warnings.add("Missing index on " + required.table() + required.columns()
+                        + " used by " + required.usedBy());
+            }
+        }
+        return warnings;
+    }
+
+    private List<List<String>> readIndexes(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+        try (ResultSet result = metaData.getIndexInfo(catalog, null, table, false, false)) {
+            while (result.next()) {
+                String indexName = result.getString("INDEX_NAME");
+                String columnName = result.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, key -> new TreeMap<>())
+                        .put(result.getShort("ORDINAL_POSITION"), columnName.toLowerCase());
+            }
+        }
+        List<List<String>> indexes = new ArrayList<>();
+        for (TreeMap<Short, String> columns : columnsByIndex.values()) {
+            indexes.add(new ArrayList<>(columns.values()));
+        }
+        return indexes;
+    }
+
+    private List<String> checkQueryPlans(Connection connection) throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        for (QueryPlanCheck check : planChecks()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + check.sql())) {
+                for (int i = 0; i < check.parameters().size(); i++) {
+                    preparedStatement.setObject(i + 1, check.parameters().get(i));
+                }
+                try (ResultSet result = preparedStatement.executeQuery()) {
+                    while (result.next()) {
+                        String accessType = result.getString("type");
+                        String possibleKeys = result.getString("possible_keys");
+                        if ("ALL".equalsIgnoreCase(accessType) && possibleKeys == null) {
+                            warnings.add("Query on " + check.description() + " would fall back to a full scan of "
+                                    + result.getString("table"));
+                        }
+                    }
+                }
+            }
+        }
+        return warnings;
+    }
+
+    private static boolean startsWith(List<String> indexColumns, List<String> requiredColumns) {
+        if (indexColumns.size() < requiredColumns.size()) {
+            return false;
+        }
+        for (int i = 0; i < requiredColumns.size(); i++) {
+            if (!indexColumns.get(i).equalsIgnoreCase(requiredColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
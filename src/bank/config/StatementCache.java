@@ -0,0 +1,171 @@
+package bank.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+class StatementCache {
+
+    private static class Entry {
+        private final PreparedStatement statement;
+        private final List<ResultSet> openResults = new ArrayList<>();
+        private boolean inUse;
+        private boolean evicted;
+
+        private Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(int capacity, LongAdder hits, LongAdder misses, LongAdder evictions) {
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    synchronized PreparedStatement checkout(Connection physical, Connection lease, String sql) throws SQLException {
+        if (capacity <= 0) {
+            misses.increment();
+            return physical.prepareStatement(sql);
+        }
+
+        Entry entry = entries.get(sql);
+        if (entry != null && !entry.inUse) {
+            hits.increment();
+            entry.inUse = true;
+            return handle(entry, lease);
+        }
+
+        misses.increment();
+        PreparedStatement statement = physical.prepareStatement(sql);
+        if (entry != null) {
+            return statement;
+        }
+
+        entry = new Entry(statement);
+        entry.inUse = true;
+        entries.put(sql, entry);
+        evictOverflow();
+        return handle(entry, lease);
+    }
+
+    synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            closeQuietly(entry.statement);
+        }
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void checkin(Entry entry) throws SQLException {
+        entry.inUse = false;
+        if (entry.evicted) {
+            entry.statement.close();
+            return;
+        }
+        try {
+            closeResults(entry);
+            entry.statement.clearParameters();
+            entry.statement.clearBatch();
+            entry.statement.setFetchSize(0);
+            entry.statement.setMaxRows(0);
+            entry.statement.setQueryTimeout(0);
+        } catch (SQLException e) {
+            entry.evicted = true;
+            entries.values().remove(entry);
+            closeQuietly(entry.statement);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            evictions.increment();
+            eldest.evicted = true;
+            if (!eldest.inUse) {
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    private PreparedStatement handle(Entry entry, Connection lease) {
+        boolean[] closed = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                checkin(entry);
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed[0] || entry.statement.isClosed();
+                        case "getConnection":
+                            return lease;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "CachedStatement[" + entry.statement + "]";
+                        default:
+                            break;
+                    }
+                    if (closed[0]) {
+                        throw new SQLException("Statement has already been closed");
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(entry.statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof ResultSet resultSet) {
+                        entry.openResults.add(resultSet);
+                    }
+                    return result;
+                });
+    }
+
+    private static void closeResults(Entry entry) throws SQLException {
+        for (ResultSet resultSet : entry.openResults) {
+            resultSet.close();
+        }
+        entry.openResults.clear();
+        ResultSet current = entry.statement.getResultSet();
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package bank.dao;
 
 import bank.exception.DaoException;
+import bank.model.BatchResult;
 import bank.model.FraudAlert;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.AlertLevelType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AlertDAO {
     FraudAlert create(FraudAlert alert) throws DaoException;
+    BatchResult<FraudAlert> createAll(Collection<FraudAlert> alerts) throws DaoException;
+    boolean incrementOccurrence(String id, int count) throws DaoException;
     boolean delete(String id) throws DaoException;
     Optional<FraudAlert> findById(String id) throws DaoException;
     List<FraudAlert> findByCardId(String cardId) throws DaoException;
+    Map<String, List<FraudAlert>> findByCardIds(Collection<String> cardIds) throws DaoException;
     List<FraudAlert> findByLevel(AlertLevelType level) throws DaoException;
     List<FraudAlert> findCriticalAlerts() throws DaoException;
+    Map<AlertLevelType, Long> countByLevel() throws DaoException;
     List<FraudAlert> findAll() throws DaoException;
+    Page<FraudAlert> findAll(PageCursor after, int pageSize) throws DaoException;
 }
 
@@ -2,9 +2,14 @@ package bank.dao;
 
 import bank.exception.DaoException;
 import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.Status;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CardDAO {
@@ -12,10 +17,16 @@ public interface CardDAO {
     Card create(Card card) throws DaoException;
     boolean delete(String id) throws DaoException;
     Optional<Card> findById(String id) throws DaoException;
+    Map<String, Card> findByIds(Collection<String> ids) throws DaoException;
     List<Card> findByClientId(String id) throws DaoException;
     Optional<Card> findByNumber(String number) throws DaoException;
     List<Card> findByStatus(Status status) throws DaoException;
     List<Card> findAll() throws DaoException;
+    Page<Card> findAll(PageCursor after, int pageSize) throws DaoException;
     boolean updateStatus(String id, Status newStatus) throws DaoException;
     boolean update(Card card) throws DaoException;
+    boolean debit(String id, double amount) throws DaoException;
+    boolean credit(String id, double amount) throws DaoException;
+    boolean debitAndRecord(CardOperation operation) throws DaoException;
+    boolean deleteAndCredit(CardOperation operation) throws DaoException;
 }
@@ -2,6 +2,8 @@ package bank.dao;
 
 import bank.exception.DaoException;
 import bank.model.Client;
+import bank.model.Page;
+import bank.model.PageCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,5 @@ public interface ClientDAO {
     Optional<Client> findByEmail(String email) throws DaoException;
     Optional<Client> findByPhone(String phone) throws DaoException;
     List<Client> findAll() throws DaoException;
+    Page<Client> findAll(PageCursor after, int pageSize) throws DaoException;
 }
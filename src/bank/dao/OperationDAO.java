@@ -1,22 +1,51 @@
 package bank.dao;
 
 import bank.exception.DaoException;
+import bank.model.BatchResult;
 import bank.model.CardOperation;
+import bank.model.CardUsage;
+import bank.model.CardUsageSnapshot;
+import bank.model.OperationRollup;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.OperationType;
+import bank.model.enums.RollupGranularity;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OperationDAO {
     CardOperation create(CardOperation operation) throws DaoException;
+    BatchResult<CardOperation> createAll(Collection<CardOperation> operations) throws DaoException;
     boolean delete(String id) throws DaoException;
     Optional<CardOperation> findById(String id) throws DaoException;
     List<CardOperation> findByCardId(String cardId) throws DaoException;
+    Map<String, List<CardOperation>> findByCardIds(Collection<String> cardIds) throws DaoException;
+    List<CardOperation> findByClientId(String clientId) throws DaoException;
+    Page<CardOperation> findByClientId(String clientId, PageCursor after, int pageSize) throws DaoException;
     List<CardOperation> findByType(OperationType type) throws DaoException;
+    Page<CardOperation> findByType(OperationType type, PageCursor after, int pageSize) throws DaoException;
     List<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
+    Page<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate, PageCursor after, int pageSize) throws DaoException;
     List<CardOperation> findByCardIdAndDateRange(String cardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
     List<CardOperation> findByCardIdAndType(String cardId, OperationType type) throws DaoException;
     List<CardOperation> findAll() throws DaoException;
+    Page<CardOperation> findAll(PageCursor after, int pageSize) throws DaoException;
+    long countByCard(String cardId) throws DaoException;
+    double sumAmountByCard(String cardId) throws DaoException;
+    Map<OperationType, Long> countByTypeInRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
+    List<CardUsage> findTopCardsByOperationCount(int limit) throws DaoException;
+    Map<String, CardUsage> aggregateByCards(Collection<String> cardIds) throws DaoException;
+    Map<String, CardUsage> aggregateByClient(String clientId) throws DaoException;
+    List<CardUsageSnapshot> aggregateUsageByCard(LocalDateTime monthStart, LocalDateTime dayStart) throws DaoException;
+    List<OperationRollup> aggregateRollups(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
+    Stream<CardOperation> streamAll() throws DaoException;
+    Stream<CardOperation> streamByCardId(String cardId) throws DaoException;
+    Stream<CardOperation> streamByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
+    Stream<CardOperation> streamOrderedByCard(String afterCardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException;
 }
 
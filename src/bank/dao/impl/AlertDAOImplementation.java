@@ -1,34 +1,45 @@
 package bank.dao.impl;
 
+import bank.config.AppConfig;
 import bank.config.DatabaseConnection;
 import bank.dao.AlertDAO;
 import bank.exception.DaoException;
+import bank.model.BatchResult;
 import bank.model.FraudAlert;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.AlertLevelType;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class AlertDAOImplementation implements AlertDAO {
 
+    private static final String INSERT_SQL = "INSERT INTO alerts (id, card_id, description, level, occurrences) VALUES (?, ?, ?, ?, ?)";
+
     private final DatabaseConnection dbconfig;
+    private final int batchSize;
+    private final int maxInListSize;
 
     public AlertDAOImplementation() {
         this.dbconfig = DatabaseConnection.getInstance();
+        this.batchSize = AppConfig.getInt("bank.db.batchSize", 500);
+        this.maxInListSize = AppConfig.getInt("bank.db.maxInListSize", 500);
     }
 
     @Override
     public FraudAlert create(FraudAlert alert) throws DaoException {
-        String sql = "INSERT INTO alerts (id, card_id, description, level) VALUES (?, ?, ?, ?)";
         try(Connection connection = dbconfig.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL);
         ){
-            preparedStatement.setString(1, alert.id());
-            preparedStatement.setString(2, alert.cardId());
-            preparedStatement.setString(3, alert.description());
-            preparedStatement.setString(4, mapAlertLevelToSQL(alert.level()));
+            bindAlert(preparedStatement, alert);
 
             preparedStatement.executeUpdate();
             return alert;
@@ -38,6 +49,29 @@ public class AlertDAOImplementation implements AlertDAO {
         }
     }
 
+    @Override
+    public BatchResult<FraudAlert> createAll(Collection<FraudAlert> alerts) throws DaoException {
+        try(Connection connection = dbconfig.getConnection()) {
+            return JdbcSupport.insertAll(connection, INSERT_SQL, new ArrayList<>(alerts), batchSize, this::bindAlert);
+        } catch(SQLException e) {
+            throw new DaoException("Failed to create alerts: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean incrementOccurrence(String id, int count) throws DaoException {
+        String sql = "UPDATE alerts SET occurrences = occurrences + ?, last_seen_at = CURRENT_TIMESTAMP WHERE id = ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setInt(1, count);
+            preparedStatement.setString(2, id);
+            return preparedStatement.executeUpdate() == 1;
+        } catch(SQLException e){
+            throw new DaoException("Failed to update alert occurrences: " + e.getMessage());
+        }
+    }
+
     @Override
     public boolean delete(String id) throws DaoException {
         String sql = "DELETE FROM alerts WHERE id = ?";
@@ -89,6 +123,27 @@ public class AlertDAOImplementation implements AlertDAO {
         }
     }
 
+    @Override
+    public Map<String, List<FraudAlert>> findByCardIds(Collection<String> cardIds) throws DaoException {
+        Map<String, List<FraudAlert>> alertsByCard = new LinkedHashMap<>();
+        for (String cardId : cardIds) {
+            alertsByCard.put(cardId, new ArrayList<>());
+        }
+        if (alertsByCard.isEmpty()) {
+            return alertsByCard;
+        }
+        try(Connection connection = dbconfig.getConnection()){
+            JdbcSupport.queryByIds(connection, "SELECT * FROM alerts WHERE card_id IN (", ") ORDER BY card_id, created_at DESC",
+                    alertsByCard.keySet(), maxInListSize, result -> {
+                        FraudAlert alert = extractAlertFromResultSet(result);
+                        alertsByCard.get(alert.cardId()).add(alert);
+                    });
+            return alertsByCard;
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve alerts by cards: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<FraudAlert> findByLevel(AlertLevelType level) throws DaoException {
         String sql = "SELECT * FROM alerts WHERE level = ? ORDER BY created_at DESC";
@@ -113,6 +168,26 @@ public class AlertDAOImplementation implements AlertDAO {
         return findByLevel(AlertLevelType.CRITICAL);
     }
 
+    @Override
+    public Map<AlertLevelType, Long> countByLevel() throws DaoException {
+        String sql = "SELECT level, COUNT(*) AS alert_count FROM alerts GROUP BY level";
+        Map<AlertLevelType, Long> counts = new EnumMap<>(AlertLevelType.class);
+        for (AlertLevelType level : AlertLevelType.values()) {
+            counts.put(level, 0L);
+        }
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                counts.put(mapSQLToAlertLevel(result.getString("level")), result.getLong("alert_count"));
+            }
+            return counts;
+        } catch(SQLException e){
+            throw new DaoException("Failed to count alerts by level: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<FraudAlert> findAll() throws DaoException {
         String sql = "SELECT * FROM alerts ORDER BY created_at DESC";
@@ -131,14 +206,60 @@ public class AlertDAOImplementation implements AlertDAO {
         }
     }
 
+    @Override
+    public Page<FraudAlert> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        String sql = after == null
+                ? "SELECT * FROM alerts ORDER BY created_at DESC, id DESC LIMIT ?"
+                : "SELECT * FROM alerts WHERE (created_at < ? OR (created_at = ? AND id < ?)) ORDER BY created_at DESC, id DESC LIMIT ?";
+        List<FraudAlert> alerts = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            int index = 1;
+            if (after != null) {
+                Timestamp cursorDate = Timestamp.valueOf(after.date());
+                preparedStatement.setTimestamp(index++, cursorDate);
+                preparedStatement.setTimestamp(index++, cursorDate);
+                preparedStatement.setString(index++, after.id());
+            }
+            preparedStatement.setInt(index, pageSize + 1);
+            ResultSet result = preparedStatement.executeQuery();
+            LocalDateTime lastCreatedAt = null;
+            PageCursor nextCursor = null;
+            while (result.next()){
+                if (alerts.size() == pageSize) {
+                    nextCursor = new PageCursor(lastCreatedAt, alerts.get(pageSize - 1).id());
+                    break;
+                }
+                lastCreatedAt = result.getTimestamp("created_at").toLocalDateTime();
+                alerts.add(extractAlertFromResultSet(result));
+            }
+            return new Page<>(alerts, nextCursor);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve alerts page: " + e.getMessage());
+        }
+    }
+
+    private void bindAlert(PreparedStatement preparedStatement, FraudAlert alert) throws SQLException {
+        preparedStatement.setString(1, alert.id());
+        preparedStatement.setString(2, alert.cardId());
+        preparedStatement.setString(3, alert.description());
+        preparedStatement.setString(4, mapAlertLevelToSQL(alert.level()));
+        preparedStatement.setInt(5, alert.occurrences());
+    }
+
     private FraudAlert extractAlertFromResultSet(ResultSet result) throws SQLException {
         String id = result.getString("id");
         String cardId = result.getString("card_id");
         String description = result.getString("description");
         String levelStr = result.getString("level");
         AlertLevelType level = mapSQLToAlertLevel(levelStr);
+        int occurrences = result.getInt("occurrences");
 
-        return new FraudAlert(id, description, level, cardId);
+        return new FraudAlert(id, description, level, cardId, occurrences);
     }
 
     private String mapAlertLevelToSQL(AlertLevelType level) {
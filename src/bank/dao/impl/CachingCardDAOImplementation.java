@@ -0,0 +1,299 @@
+package bank.dao.impl;
+
+import bank.config.AppConfig;
+import bank.dao.CardDAO;
+import bank.exception.DaoException;
+import bank.model.CacheStatistics;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.enums.Status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CachingCardDAOImplementation implements CardDAO {
+
+    private record CachedCard(Card card, long expiresAtNanos) {}
+
+    private final CardDAO delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, CachedCard> cardsById;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private long generation;
+
+    public CachingCardDAOImplementation(CardDAO delegate) {
+        this(delegate,
+                AppConfig.getInt("bank.cache.cards.maxSize", 1000),
+                AppConfig.getLong("bank.cache.cards.ttlMillis", 30_000));
+    }
+
+    public CachingCardDAOImplementation(CardDAO delegate, int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (ttlMillis < 1) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttlMillis);
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.cardsById = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCard> eldest) {
+                if (size() > CachingCardDAOImplementation.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<Card> findById(String id) throws DaoException {
+        long loadedGeneration;
+        synchronized (cardsById) {
+            CachedCard cached = cardsById.get(id);
+            if (cached != null) {
+                if (System.nanoTime() - cached.expiresAtNanos() < 0) {
+                    hits.incrementAndGet();
+                    return Optional.of(cached.card().copy());
+                }
+                cardsById.remove(id);
+                expirations.incrementAndGet();
+            }
+            loadedGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        Optional<Card> card = delegate.findById(id);
+        if (card.isPresent()) {
+            synchronized (cardsById) {
+                if (generation == loadedGeneration) {
+                    cardsById.put(id, new CachedCard(card.get().copy(), System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return card;
+    }
+
+    @Override
+    public Map<String, Card> findByIds(Collection<String> ids) throws DaoException {
+        Map<String, Card> cards = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        long loadedGeneration;
+        synchronized (cardsById) {
+            long now = System.nanoTime();
+            for (String id : ids) {
+                CachedCard cached = cardsById.get(id);
+                if (cached != null && now - cached.expiresAtNanos() < 0) {
+                    hits.incrementAndGet();
+                    cards.put(id, cached.card().copy());
+                    continue;
+                }
+                if (cached != null) {
+                    cardsById.remove(id);
+                    expirations.incrementAndGet();
+                }
+                missing.add(id);
+            }
+            loadedGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return cards;
+        }
+
+        misses.addAndGet(missing.size());
+        Map<String, Card> loaded = delegate.findByIds(missing);
+        synchronized (cardsById) {
+            if (generation == loadedGeneration) {
+                long expiresAt = System.nanoTime() + ttlNanos;
+                for (Map.Entry<String, Card> entry : loaded.entrySet()) {
+                    cardsById.put(entry.getKey(), new CachedCard(entry.getValue().copy(), expiresAt));
+                }
+            }
+        }
+        cards.putAll(loaded);
+        return cards;
+    }
+
+    @Override
+    public Card create(Card card) throws DaoException {
+        return delegate.create(card);
+    }
+
+    @Override
+    public boolean delete(String id) throws DaoException {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean updateStatus(String id, Status newStatus) throws DaoException {
+        try {
+            return delegate.updateStatus(id, newStatus);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean update(Card card) throws DaoException {
+        try {
+            return delegate.update(card);
+        } finally {
+            invalidate(card.getId());
+        }
+    }
+
+    @Override
+    public boolean debit(String id, double amount) throws DaoException {
+        try {
+            return delegate.debit(id, amount);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean credit(String id, double amount) throws DaoException {
+        try {
+            return delegate.credit(id, amount);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean debitAndRecord(CardOperation operation) throws DaoException {
+        try {
+            return delegate.debitAndRecord(operation);
+        } finally {
+            invalidate(operation.cardId());
+        }
+    }
+
+    @Override
+    public boolean deleteAndCredit(CardOperation operation) throws DaoException {
+        try {
+            return delegate.deleteAndCredit(operation);
+        } finally {
+            invalidate(operation.cardId());
+        }
+    }
+
+    @Override
+    public List<Card> findByClientId(String id) throws DaoException {
+        return delegate.findByClientId(id);
+    }
+
+    @Override
+    public Optional<Card> findByNumber(String number) throws DaoException {
+        return delegate.findByNumber(number);
+    }
+
+    @Override
+    public List<Card> findByStatus(Status status) throws DaoException {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Card> findAll() throws DaoException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<Card> findAll(PageCursor after, int pageSize) throws DaoException {
+        return delegate.findAll(after, pageSize);
+    }
+
+    public void invalidate(String id) {
+        synchronized (cardsById) {
+            generation++;
+            if (cardsById.remove(id) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (cardsById) {
+            generation++;
+            cardsById.clear();
+        }
+    }
+
+    public int purgeExpired() {
+        int purged = 0;
+        long now = System.nanoTime();
+        synchronized (cardsById) {
+            Iterator<CachedCard> iterator = cardsById.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().expiresAtNanos() >= 0) {
+                    iterator.remove();
+                    purged++;
+                }
+            }
+        }
+        expirations.addAndGet(purged);
+        return purged;
+    }
+
+    public int getSize() {
+        synchronized (cardsById) {
+            return cardsById.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public double getHitRatio() {
+        long lookups = hits.get() + misses.get();
+        return lookups == 0 ? 0.0 : (double) hits.get() / lookups;
+    }
+
+    public CacheStatistics getStatistics() {
+        synchronized (cardsById) {
+            return new CacheStatistics("Cards", cardsById.size(), maxSize,
+                    hits.get(), misses.get(), evictions.get(), invalidations.get());
+        }
+    }
+}
@@ -1,26 +1,40 @@
 package bank.dao.impl;
 
+import bank.config.AppConfig;
 import bank.config.DatabaseConnection;
 import bank.dao.CardDAO;
 import bank.exception.DaoException;
 import bank.model.Card;
+import bank.model.CardOperation;
 import bank.model.CreditCard;
 import bank.model.DebitCard;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.PrepaidCard;
 import bank.model.enums.Status;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
 public class CarddaoImplementation implements CardDAO {
 
+    private static final String DEBIT_SQL = "UPDATE cards SET available_balance = available_balance - ? "
+            + "WHERE id = ? AND available_balance >= ? AND status = 'ACTIVE'";
+    private static final String CREDIT_SQL = "UPDATE cards SET available_balance = available_balance + ? "
+            + "WHERE id = ? AND card_type = 'PREPAID'";
+
     private final DatabaseConnection dbconfig;
+    private final int maxInListSize;
 
     public CarddaoImplementation() {
         this.dbconfig = DatabaseConnection.getInstance();
+        this.maxInListSize = AppConfig.getInt("bank.db.maxInListSize", 500);
     }
 
     @Override
@@ -119,15 +133,16 @@ public class CarddaoImplementation implements CardDAO {
 
     @Override
     public boolean updateStatus(String id, Status newStatus) throws DaoException{
-        String sql = "UPDATE cards SET status = ?";
+        String sql = "UPDATE cards SET status = ? WHERE id = ?";
         try(Connection connection = dbconfig.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(sql);
         ){
-            preparedStatement.setString(1, id);
+            preparedStatement.setString(1, newStatus.name());
+            preparedStatement.setString(2, id);
             int count = preparedStatement.executeUpdate();
             return count == 1;
         } catch(SQLException e){
-            throw new DaoException("Failed to updat ethe card status.");
+            throw new DaoException("Failed to update the card status: " + e.getMessage());
         }
     }
 
@@ -151,6 +166,21 @@ public class CarddaoImplementation implements CardDAO {
         }
     }
 
+    @Override
+    public Map<String, Card> findByIds(Collection<String> ids) throws DaoException {
+        Map<String, Card> cards = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return cards;
+        }
+        try(Connection connection = dbconfig.getConnection()){
+            JdbcSupport.queryByIds(connection, "SELECT * FROM cards WHERE id IN (", ")", ids, maxInListSize,
+                    result -> cards.put(result.getString("id"), extractCardFromResultSet(result)));
+            return cards;
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve cards by ids: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<Card> findByClientId(String id) throws DaoException {
         String sql = "SELECT * FROM cards WHERE client_id = ?";
@@ -225,6 +255,131 @@ public class CarddaoImplementation implements CardDAO {
         }
     }
 
+    @Override
+    public Page<Card> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        String sql = after == null
+                ? "SELECT * FROM cards ORDER BY id LIMIT ?"
+                : "SELECT * FROM cards WHERE id > ? ORDER BY id LIMIT ?";
+        List<Card> cards = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            int index = 1;
+            if (after != null) {
+                preparedStatement.setString(index++, after.id());
+            }
+            preparedStatement.setInt(index, pageSize + 1);
+            ResultSet result = preparedStatement.executeQuery();
+            String lastId = null;
+            PageCursor nextCursor = null;
+            while (result.next()){
+                if (cards.size() == pageSize) {
+                    nextCursor = PageCursor.ofId(lastId);
+                    break;
+                }
+                lastId = result.getString("id");
+                cards.add(extractCardFromResultSet(result));
+            }
+            return new Page<>(cards, nextCursor);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve cards page: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean debit(String id, double amount) throws DaoException {
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(DEBIT_SQL);
+        ){
+            bindDebit(preparedStatement, id, amount);
+            return preparedStatement.executeUpdate() == 1;
+        } catch(SQLException e){
+            throw new DaoException("Failed to debit card: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean credit(String id, double amount) throws DaoException {
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(CREDIT_SQL);
+        ){
+            bindCredit(preparedStatement, id, amount);
+            return preparedStatement.executeUpdate() == 1;
+        } catch(SQLException e){
+            throw new DaoException("Failed to credit card: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean debitAndRecord(CardOperation operation) throws DaoException {
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement debitStatement = connection.prepareStatement(DEBIT_SQL);
+            PreparedStatement insertStatement = connection.prepareStatement(OperationDAOImplementation.INSERT_SQL);
+        ){
+            connection.setAutoCommit(false);
+            try {
+                bindDebit(debitStatement, operation.cardId(), operation.amount());
+                if (debitStatement.executeUpdate() != 1) {
+                    connection.rollback();
+                    return false;
+                }
+                OperationDAOImplementation.bindOperation(insertStatement, operation);
+                insertStatement.executeUpdate();
+                connection.commit();
+                return true;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch(SQLException e){
+            throw new DaoException("Failed to debit card and record operation: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean deleteAndCredit(CardOperation operation) throws DaoException {
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement deleteStatement = connection.prepareStatement(OperationDAOImplementation.DELETE_SQL);
+            PreparedStatement creditStatement = connection.prepareStatement(CREDIT_SQL);
+        ){
+            connection.setAutoCommit(false);
+            try {
+                deleteStatement.setString(1, operation.id());
+                if (deleteStatement.executeUpdate() != 1) {
+                    connection.rollback();
+                    return false;
+                }
+                bindCredit(creditStatement, operation.cardId(), operation.amount());
+                creditStatement.executeUpdate();
+                connection.commit();
+                return true;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch(SQLException e){
+            throw new DaoException("Failed to delete operation and credit card: " + e.getMessage());
+        }
+    }
+
+    private void bindDebit(PreparedStatement preparedStatement, String id, double amount) throws SQLException {
+        preparedStatement.setDouble(1, amount);
+        preparedStatement.setString(2, id);
+        preparedStatement.setDouble(3, amount);
+    }
+
+    private void bindCredit(PreparedStatement preparedStatement, String id, double amount) throws SQLException {
+        preparedStatement.setDouble(1, amount);
+        preparedStatement.setString(2, id);
+    }
+
     private Card extractCardFromResultSet(ResultSet result) throws SQLException {
         String id = result.getString("id");
         String cardType = result.getString("card_type");
@@ -4,6 +4,8 @@ import bank.config.DatabaseConnection;
 import bank.dao.ClientDAO;
 import bank.exception.DaoException;
 import bank.model.Client;
+import bank.model.Page;
+import bank.model.PageCursor;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -120,9 +122,10 @@ public class ClientdaoImplementation implements ClientDAO {
     @Override
     public List<Client> findAll() throws DaoException {
         List<Client> clients = new ArrayList<>();
-        try(Connection connection = dbconfig.getConnection()) {
-            String sql = "SELECT * FROM clients";
+        String sql = "SELECT * FROM clients";
+        try(Connection connection = dbconfig.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
             ResultSet results = preparedStatement.executeQuery();
             while(results.next()) {
                 Client client = new Client(
@@ -139,6 +142,43 @@ public class ClientdaoImplementation implements ClientDAO {
         }
     }
 
+    @Override
+    public Page<Client> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        String sql = after == null
+                ? "SELECT * FROM clients ORDER BY id LIMIT ?"
+                : "SELECT * FROM clients WHERE id > ? ORDER BY id LIMIT ?";
+        List<Client> clients = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            int index = 1;
+            if (after != null) {
+                preparedStatement.setString(index++, after.id());
+            }
+            preparedStatement.setInt(index, pageSize + 1);
+            ResultSet results = preparedStatement.executeQuery();
+            PageCursor nextCursor = null;
+            while(results.next()) {
+                if (clients.size() == pageSize) {
+                    nextCursor = PageCursor.ofId(clients.get(pageSize - 1).id());
+                    break;
+                }
+                clients.add(new Client(
+                        results.getString("id"),
+                        results.getString("name"),
+                        results.getString("email"),
+                        results.getString("phone")
+                ));
+            }
+            return new Page<>(clients, nextCursor);
+        }catch(SQLException e) {
+            throw new DaoException("Failed to retrieve clients page.");
+        }
+    }
+
     private Optional<Client> getClient(String key, PreparedStatement preparedStatement) throws SQLException {
         preparedStatement.setString(1, key);
         ResultSet result = preparedStatement.executeQuery();
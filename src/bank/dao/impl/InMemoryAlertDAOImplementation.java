@@ -0,0 +1,218 @@
+package bank.dao.impl;
+
+import bank.dao.AlertDAO;
+import bank.exception.DaoException;
+import bank.model.BatchResult;
+import bank.model.FraudAlert;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.enums.AlertLevelType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryAlertDAOImplementation implements AlertDAO {
+
+    private record StoredAlert(long sequence, FraudAlert alert) {}
+
+    private final Map<String, StoredAlert> alertsById = new HashMap<>();
+    private final NavigableMap<Long, FraudAlert> alertsBySequence = new TreeMap<>();
+    private final Map<String, NavigableMap<Long, FraudAlert>> alertsByCard = new HashMap<>();
+    private final Map<AlertLevelType, NavigableMap<Long, FraudAlert>> alertsByLevel = new EnumMap<>(AlertLevelType.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextSequence;
+
+    @Override
+    public FraudAlert create(FraudAlert alert) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            if (alertsById.containsKey(alert.id())) {
+                throw new DaoException("Failed to create alert: duplicate id " + alert.id());
+            }
+            long sequence = nextSequence++;
+            alertsById.put(alert.id(), new StoredAlert(sequence, alert));
+            alertsBySequence.put(sequence, alert);
+            alertsByCard.computeIfAbsent(alert.cardId(), key -> new TreeMap<>()).put(sequence, alert);
+            alertsByLevel.computeIfAbsent(alert.level(), key -> new TreeMap<>()).put(sequence, alert);
+            return alert;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<FraudAlert> createAll(Collection<FraudAlert> alerts) throws DaoException {
+        List<FraudAlert> succeeded = new ArrayList<>(alerts.size());
+        Map<Integer, String> failures = new TreeMap<>();
+        int index = 0;
+        for (FraudAlert alert : alerts) {
+            int position = index++;
+            try {
+                succeeded.add(create(alert));
+            } catch (DaoException e) {
+                failures.put(position, e.getMessage());
+            }
+        }
+        return new BatchResult<>(succeeded, failures);
+    }
+
+    @Override
+    public boolean incrementOccurrence(String id, int count) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            StoredAlert stored = alertsById.get(id);
+            if (stored == null) {
+                return false;
+            }
+            FraudAlert alert = stored.alert();
+            FraudAlert updated = alert.withOccurrences(alert.occurrences() + count);
+            long sequence = stored.sequence();
+            alertsById.put(id, new StoredAlert(sequence, updated));
+            alertsBySequence.put(sequence, updated);
+            alertsByCard.get(alert.cardId()).put(sequence, updated);
+            alertsByLevel.get(alert.level()).put(sequence, updated);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String id) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            StoredAlert removed = alertsById.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            FraudAlert alert = removed.alert();
+            alertsBySequence.remove(removed.sequence());
+            alertsByLevel.get(alert.level()).remove(removed.sequence());
+            NavigableMap<Long, FraudAlert> cardAlerts = alertsByCard.get(alert.cardId());
+            cardAlerts.remove(removed.sequence());
+            if (cardAlerts.isEmpty()) {
+                alertsByCard.remove(alert.cardId());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<FraudAlert> findById(String id) throws DaoException {
+        lock.readLock().lock();
+        try {
+            StoredAlert stored = alertsById.get(id);
+            return stored == null ? Optional.empty() : Optional.of(stored.alert());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<FraudAlert> findByCardId(String cardId) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return newestFirst(alertsByCard.get(cardId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, List<FraudAlert>> findByCardIds(Collection<String> cardIds) throws DaoException {
+        Map<String, List<FraudAlert>> alerts = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String cardId : cardIds) {
+                alerts.put(cardId, newestFirst(alertsByCard.get(cardId)));
+            }
+            return alerts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<FraudAlert> findByLevel(AlertLevelType level) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return newestFirst(alertsByLevel.get(level));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<FraudAlert> findCriticalAlerts() throws DaoException {
+        return findByLevel(AlertLevelType.CRITICAL);
+    }
+
+    @Override
+    public Map<AlertLevelType, Long> countByLevel() throws DaoException {
+        Map<AlertLevelType, Long> counts = new EnumMap<>(AlertLevelType.class);
+        lock.readLock().lock();
+        try {
+            for (AlertLevelType level : AlertLevelType.values()) {
+                NavigableMap<Long, FraudAlert> alerts = alertsByLevel.get(level);
+                counts.put(level, alerts == null ? 0L : (long) alerts.size());
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<FraudAlert> findAll() throws DaoException {
+        lock.readLock().lock();
+        try {
+            return newestFirst(alertsBySequence);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<FraudAlert> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, FraudAlert> remaining = alertsBySequence;
+            if (after != null) {
+                StoredAlert last = alertsById.get(after.id());
+                if (last == null) {
+                    throw new DaoException("Failed to retrieve alerts page: cursor alert no longer exists");
+                }
+                remaining = alertsBySequence.headMap(last.sequence(), false);
+            }
+            List<FraudAlert> alerts = new ArrayList<>(pageSize);
+            for (FraudAlert alert : remaining.descendingMap().values()) {
+                if (alerts.size() == pageSize) {
+                    return new Page<>(alerts, PageCursor.ofId(alerts.get(pageSize - 1).id()));
+                }
+                alerts.add(alert);
+            }
+            return new Page<>(alerts, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<FraudAlert> newestFirst(NavigableMap<Long, FraudAlert> alerts) {
+        return alerts == null ? new ArrayList<>() : new ArrayList<>(alerts.descendingMap().values());
+    }
+}
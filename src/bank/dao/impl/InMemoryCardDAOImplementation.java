@@ -0,0 +1,331 @@
+package bank.dao.impl;
+
+import bank.dao.AlertDAO;
+import bank.dao.CardDAO;
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.FraudAlert;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.PrepaidCard;
+import bank.model.enums.Status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryCardDAOImplementation implements CardDAO {
+
+    private final NavigableMap<String, Card> cardsById = new TreeMap<>();
+    private final Map<String, String> cardIdByNumber = new HashMap<>();
+    private final Map<String, Set<String>> cardIdsByClient = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile OperationDAO operationDAO;
+    private volatile AlertDAO alertDAO;
+
+    public void setOperationDAO(OperationDAO operationDAO) {
+        this.operationDAO = operationDAO;
+    }
+
+    public void setAlertDAO(AlertDAO alertDAO) {
+        this.alertDAO = alertDAO;
+    }
+
+    @Override
+    public Card create(Card card) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            if (cardsById.containsKey(card.getId())) {
+                throw new DaoException("Failed to create the card. Duplicate id: " + card.getId());
+            }
+            if (cardIdByNumber.containsKey(card.getNumber())) {
+                throw new DaoException("Failed to create the card. Duplicate number: " + card.getNumber());
+            }
+            index(card.copy());
+            return card;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String id) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            Card removed = cardsById.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            unindex(removed);
+            deleteDependents(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean update(Card card) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            Card existing = cardsById.get(card.getId());
+            if (existing == null) {
+                return false;
+            }
+            String ownerOfNumber = cardIdByNumber.get(card.getNumber());
+            if (ownerOfNumber != null && !ownerOfNumber.equals(card.getId())) {
+                throw new DaoException("Failed to update the card: number already in use");
+            }
+            unindex(existing);
+            index(card.copy());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateStatus(String id, Status newStatus) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            Card card = cardsById.get(id);
+            if (card == null) {
+                return false;
+            }
+            switch (newStatus) {
+                case ACTIVE -> card.activeCard();
+                case SUSPENDED -> card.suspendCard();
+                case BLOCKED -> card.blockCard();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean debit(String id, double amount) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            PrepaidCard card = debitableCard(id, amount);
+            if (card == null) {
+                return false;
+            }
+            card.setBalance(card.getBalance() - amount);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean credit(String id, double amount) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            if (!(cardsById.get(id) instanceof PrepaidCard card)) {
+                return false;
+            }
+            card.setBalance(card.getBalance() + amount);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean debitAndRecord(CardOperation operation) throws DaoException {
+        OperationDAO operations = operationDAO;
+        if (operations == null) {
+            throw new DaoException("Failed to debit card and record operation: no operation store configured");
+        }
+        lock.writeLock().lock();
+        try {
+            PrepaidCard card = debitableCard(operation.cardId(), operation.amount());
+            if (card == null) {
+                return false;
+            }
+            operations.create(operation);
+            card.setBalance(card.getBalance() - operation.amount());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteAndCredit(CardOperation operation) throws DaoException {
+        OperationDAO operations = operationDAO;
+        if (operations == null) {
+            throw new DaoException("Failed to delete operation and credit card: no operation store configured");
+        }
+        lock.writeLock().lock();
+        try {
+            if (!operations.delete(operation.id())) {
+                return false;
+            }
+            if (cardsById.get(operation.cardId()) instanceof PrepaidCard card) {
+                card.setBalance(card.getBalance() + operation.amount());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void deleteDependents(String cardId) throws DaoException {
+        OperationDAO operations = operationDAO;
+        if (operations != null) {
+            for (CardOperation operation : operations.findByCardId(cardId)) {
+                operations.delete(operation.id());
+            }
+        }
+        AlertDAO alerts = alertDAO;
+        if (alerts != null) {
+            for (FraudAlert alert : alerts.findByCardId(cardId)) {
+                alerts.delete(alert.id());
+            }
+        }
+    }
+
+    private PrepaidCard debitableCard(String id, double amount) {
+        if (cardsById.get(id) instanceof PrepaidCard card
+                && card.getStatus() == Status.ACTIVE
+                && card.getBalance() >= amount) {
+            return card;
+        }
+        return null;
+    }
+
+    @Override
+    public Optional<Card> findById(String id) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(cardsById.get(id)).map(Card::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Card> findByIds(Collection<String> ids) throws DaoException {
+        Map<String, Card> cards = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String id : ids) {
+                Card card = cardsById.get(id);
+                if (card != null) {
+                    cards.put(id, card.copy());
+                }
+            }
+            return cards;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Card> findByClientId(String id) throws DaoException {
+        lock.readLock().lock();
+        try {
+            List<Card> cards = new ArrayList<>();
+            for (String cardId : cardIdsByClient.getOrDefault(id, Set.of())) {
+                cards.add(cardsById.get(cardId).copy());
+            }
+            return cards;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Card> findByNumber(String number) throws DaoException {
+        lock.readLock().lock();
+        try {
+            String cardId = cardIdByNumber.get(number);
+            return cardId == null ? Optional.empty() : Optional.of(cardsById.get(cardId).copy());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Card> findByStatus(Status status) throws DaoException {
+        lock.readLock().lock();
+        try {
+            List<Card> cards = new ArrayList<>();
+            for (Card card : cardsById.values()) {
+                if (card.getStatus() == status) {
+                    cards.add(card.copy());
+                }
+            }
+            return cards;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Card> findAll() throws DaoException {
+        lock.readLock().lock();
+        try {
+            List<Card> cards = new ArrayList<>(cardsById.size());
+            for (Card card : cardsById.values()) {
+                cards.add(card.copy());
+            }
+            return cards;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<Card> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        lock.readLock().lock();
+        try {
+            Map<String, Card> remaining = after == null ? cardsById : cardsById.tailMap(after.id(), false);
+            List<Card> cards = new ArrayList<>(pageSize);
+            for (Card card : remaining.values()) {
+                if (cards.size() == pageSize) {
+                    return new Page<>(cards, PageCursor.ofId(cards.get(pageSize - 1).getId()));
+                }
+                cards.add(card.copy());
+            }
+            return new Page<>(cards, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Card card) {
+        cardsById.put(card.getId(), card);
+        cardIdByNumber.put(card.getNumber(), card.getId());
+        cardIdsByClient.computeIfAbsent(card.getClientId(), key -> new LinkedHashSet<>()).add(card.getId());
+    }
+
+    private void unindex(Card card) {
+        cardsById.remove(card.getId());
+        cardIdByNumber.remove(card.getNumber());
+        Set<String> clientCards = cardIdsByClient.get(card.getClientId());
+        if (clientCards != null) {
+            clientCards.remove(card.getId());
+            if (clientCards.isEmpty()) {
+                cardIdsByClient.remove(card.getClientId());
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package bank.dao.impl;
+
+import bank.dao.CardDAO;
+import bank.dao.ClientDAO;
+import bank.exception.DaoException;
+import bank.model.Card;
+import bank.model.Client;
+import bank.model.Page;
+import bank.model.PageCursor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryClientDAOImplementation implements ClientDAO {
+
+    private final NavigableMap<String, Client> clientsById = new TreeMap<>();
+    private final Map<String, String> clientIdByEmail = new HashMap<>();
+    private final Map<String, String> clientIdByPhone = new HashMap<>();
+    private final Map<String, Set<String>> clientIdsByName = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile CardDAO cardDAO;
+
+    public void setCardDAO(CardDAO cardDAO) {
+        this.cardDAO = cardDAO;
+    }
+
+    @Override
+    public Client save(Client client) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            if (clientsById.containsKey(client.id())) {
+                throw new DaoException("Duplicate client id: " + client.id());
+            }
+            if (clientIdByEmail.containsKey(client.email())) {
+                throw new DaoException("Duplicate client email: " + client.email());
+            }
+            index(client);
+            return client;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean update(Client client) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            Client existing = clientsById.get(client.id());
+            if (existing == null) {
+                return false;
+            }
+            String ownerOfEmail = clientIdByEmail.get(client.email());
+            if (ownerOfEmail != null && !ownerOfEmail.equals(client.id())) {
+                throw new DaoException("Failed to update the client: email already in use");
+            }
+            unindex(existing);
+            index(client);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String id) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            Client removed = clientsById.get(id);
+            if (removed == null) {
+                return false;
+            }
+            unindex(removed);
+            CardDAO cards = cardDAO;
+            if (cards != null) {
+                for (Card card : cards.findByClientId(id)) {
+                    cards.delete(card.getId());
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Client> findById(String id) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(clientsById.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Client> findByName(String name) throws DaoException {
+        lock.readLock().lock();
+        try {
+            Set<String> ids = clientIdsByName.get(name);
+            if (ids == null || ids.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(clientsById.get(ids.iterator().next()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Client> findByEmail(String email) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return lookup(clientIdByEmail.get(email));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Client> findByPhone(String phone) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return lookup(clientIdByPhone.get(phone));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Client> findAll() throws DaoException {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(clientsById.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<Client> findAll(PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        lock.readLock().lock();
+        try {
+            Map<String, Client> remaining = after == null ? clientsById : clientsById.tailMap(after.id(), false);
+            List<Client> clients = new ArrayList<>(pageSize);
+            for (Client client : remaining.values()) {
+                if (clients.size() == pageSize) {
+                    return new Page<>(clients, PageCursor.ofId(clients.get(pageSize - 1).id()));
+                }
+                clients.add(client);
+            }
+            return new Page<>(clients, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<Client> lookup(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(clientsById.get(id));
+    }
+
+    private void index(Client client) {
+        clientsById.put(client.id(), client);
+        clientIdByEmail.put(client.email(), client.id());
+        clientIdByPhone.put(client.phone(), client.id());
+        clientIdsByName.computeIfAbsent(client.name(), key -> new LinkedHashSet<>()).add(client.id());
+    }
+
+    private void unindex(Client client) {
+        clientsById.remove(client.id());
+        clientIdByEmail.remove(client.email());
+        if (client.id().equals(clientIdByPhone.get(client.phone()))) {
+            clientIdByPhone.remove(client.phone());
+        }
+        Set<String> ids = clientIdsByName.get(client.name());
+        if (ids != null) {
+            ids.remove(client.id());
+            if (ids.isEmpty()) {
+                clientIdsByName.remove(client.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,593 @@
+package bank.dao.impl;
+
+import bank.dao.CardDAO;
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.BatchResult;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CardUsage;
+import bank.model.CardUsageSnapshot;
+import bank.model.OperationRollup;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.enums.CardType;
+import bank.model.enums.OperationType;
+import bank.model.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+public class InMemoryOperationDAOImplementation implements OperationDAO {
+
+    private record RollupKey(LocalDateTime bucketStart, OperationType type, CardType cardType) {}
+
+    private record TimelineHead(CardOperation operation, Iterator<CardOperation> remaining) {}
+
+    private static final Comparator<CardOperation> BY_DATE_THEN_ID =
+            Comparator.comparing(CardOperation::date).thenComparing(CardOperation::id);
+    private static final String LOWEST_ID = "";
+    private static final String HIGHEST_ID = "\uffff";
+
+    private final Map<String, CardOperation> operationsById = new HashMap<>();
+    private final Map<String, NavigableSet<CardOperation>> operationsByCard = new HashMap<>();
+    private final Map<OperationType, NavigableSet<CardOperation>> operationsByType = new EnumMap<>(OperationType.class);
+    private final NavigableSet<CardOperation> operationsByDate = new TreeSet<>(BY_DATE_THEN_ID);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CardDAO cardDAO;
+
+    public InMemoryOperationDAOImplementation() {
+        this(null);
+    }
+
+    public InMemoryOperationDAOImplementation(CardDAO cardDAO) {
+        this.cardDAO = cardDAO;
+    }
+
+    @Override
+    public CardOperation create(CardOperation operation) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            if (operationsById.containsKey(operation.id())) {
+                throw new DaoException("Failed to create operation: duplicate id " + operation.id());
+            }
+            index(operation);
+            return operation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public BatchResult<CardOperation> createAll(Collection<CardOperation> operations) throws DaoException {
+        List<CardOperation> succeeded = new ArrayList<>(operations.size());
+        Map<Integer, String> failures = new TreeMap<>();
+        lock.writeLock().lock();
+        try {
+            int index = 0;
+            for (CardOperation operation : operations) {
+                int position = index++;
+                if (operationsById.containsKey(operation.id())) {
+                    failures.put(position, "Duplicate operation id " + operation.id());
+                } else {
+                    index(operation);
+                    succeeded.add(operation);
+                }
+            }
+            return new BatchResult<>(succeeded, failures);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String id) throws DaoException {
+        lock.writeLock().lock();
+        try {
+            CardOperation removed = operationsById.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            operationsByDate.remove(removed);
+            operationsByType.get(removed.type()).remove(removed);
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(removed.cardId());
+            cardOperations.remove(removed);
+            if (cardOperations.isEmpty()) {
+                operationsByCard.remove(removed.cardId());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<CardOperation> findById(String id) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(operationsById.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByCardId(String cardId) throws DaoException {
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+            return cardOperations == null ? new ArrayList<>() : new ArrayList<>(cardOperations.descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, List<CardOperation>> findByCardIds(Collection<String> cardIds) throws DaoException {
+        Map<String, List<CardOperation>> operations = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String cardId : cardIds) {
+                NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+                operations.put(cardId, cardOperations == null ? new ArrayList<>() : new ArrayList<>(cardOperations.descendingSet()));
+            }
+            return operations;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByClientId(String clientId) throws DaoException {
+        if (cardDAO == null) {
+            throw new DaoException("Failed to retrieve client operations: no card store configured");
+        }
+        List<Card> cards = cardDAO.findByClientId(clientId);
+        List<CardOperation> operations = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Card card : cards) {
+                NavigableSet<CardOperation> cardOperations = operationsByCard.get(card.getId());
+                if (cardOperations != null) {
+                    operations.addAll(cardOperations);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        operations.sort(BY_DATE_THEN_ID.reversed());
+        return operations;
+    }
+
+    @Override
+    public Page<CardOperation> findByClientId(String clientId, PageCursor after, int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+        if (cardDAO == null) {
+            throw new DaoException("Failed to retrieve client operations page: no card store configured");
+        }
+        List<Card> cards = cardDAO.findByClientId(clientId);
+        PriorityQueue<TimelineHead> heads = new PriorityQueue<>(
+                Comparator.comparing(TimelineHead::operation, BY_DATE_THEN_ID.reversed()));
+        List<CardOperation> items = new ArrayList<>(pageSize);
+        lock.readLock().lock();
+        try {
+            for (Card card : cards) {
+                NavigableSet<CardOperation> cardOperations = operationsByCard.get(card.getId());
+                if (cardOperations == null) {
+                    continue;
+                }
+                NavigableSet<CardOperation> remaining = after == null
+                        ? cardOperations
+                        : cardOperations.headSet(probe(after.date(), after.id()), false);
+                Iterator<CardOperation> newestFirst = remaining.descendingIterator();
+                if (newestFirst.hasNext()) {
+                    heads.add(new TimelineHead(newestFirst.next(), newestFirst));
+                }
+            }
+            while (!heads.isEmpty()) {
+                if (items.size() == pageSize) {
+                    CardOperation last = items.get(pageSize - 1);
+                    return new Page<>(items, new PageCursor(last.date(), last.id()));
+                }
+                TimelineHead head = heads.poll();
+                items.add(head.operation());
+                if (head.remaining().hasNext()) {
+                    heads.add(new TimelineHead(head.remaining().next(), head.remaining()));
+                }
+            }
+            return new Page<>(items, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByType(OperationType type) throws DaoException {
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> typed = operationsByType.get(type);
+            return typed == null ? new ArrayList<>() : new ArrayList<>(typed.descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<CardOperation> findByType(OperationType type, PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> typed = operationsByType.get(type);
+            return typed == null ? new Page<>(new ArrayList<>(), null) : page(typed, after, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(range(operationsByDate, startDate, endDate).descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate, PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        lock.readLock().lock();
+        try {
+            return page(range(operationsByDate, startDate, endDate), after, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByCardIdAndDateRange(String cardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+            if (cardOperations == null) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(range(cardOperations, startDate, endDate).descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByCardIdAndType(String cardId, OperationType type) throws DaoException {
+        lock.readLock().lock();
+        try {
+            List<CardOperation> operations = new ArrayList<>();
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+            if (cardOperations != null) {
+                for (CardOperation operation : cardOperations.descendingSet()) {
+                    if (operation.type() == type) {
+                        operations.add(operation);
+                    }
+                }
+            }
+            return operations;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardOperation> findAll() throws DaoException {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(operationsByDate.descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<CardOperation> findAll(PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        lock.readLock().lock();
+        try {
+            return page(operationsByDate, after, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByCard(String cardId) throws DaoException {
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+            return cardOperations == null ? 0 : cardOperations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public double sumAmountByCard(String cardId) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return usageOf(cardId).totalAmount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<OperationType, Long> countByTypeInRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        Map<OperationType, Long> counts = new EnumMap<>(OperationType.class);
+        for (OperationType type : OperationType.values()) {
+            counts.put(type, 0L);
+        }
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<OperationType, NavigableSet<CardOperation>> entry : operationsByType.entrySet()) {
+                counts.put(entry.getKey(), (long) range(entry.getValue(), startDate, endDate).size());
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardUsage> findTopCardsByOperationCount(int limit) throws DaoException {
+        if (limit < 1) {
+            throw new DaoException("Limit must be positive: " + limit);
+        }
+        Comparator<CardUsage> leastUsedFirst = Comparator.comparingLong(CardUsage::operationCount)
+                .thenComparing(CardUsage::cardId, Comparator.reverseOrder());
+        PriorityQueue<CardUsage> top = new PriorityQueue<>(leastUsedFirst);
+        lock.readLock().lock();
+        try {
+            for (String cardId : operationsByCard.keySet()) {
+                top.add(usageOf(cardId));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<CardUsage> usages = new ArrayList<>(top);
+        usages.sort(leastUsedFirst.reversed());
+        return usages;
+    }
+
+    @Override
+    public Map<String, CardUsage> aggregateByCards(Collection<String> cardIds) throws DaoException {
+        Map<String, CardUsage> usages = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String cardId : cardIds) {
+                usages.put(cardId, usageOf(cardId));
+            }
+            return usages;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, CardUsage> aggregateByClient(String clientId) throws DaoException {
+        if (cardDAO == null) {
+            throw new DaoException("Failed to aggregate operations by client: no card store configured");
+        }
+        List<Card> cards = cardDAO.findByClientId(clientId);
+        Map<String, CardUsage> usages = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Card card : cards) {
+                usages.put(card.getNumber(), usageOf(card.getId()));
+            }
+            return usages;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CardUsageSnapshot> aggregateUsageByCard(LocalDateTime monthStart, LocalDateTime dayStart) throws DaoException {
+        List<CardUsageSnapshot> snapshots = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, NavigableSet<CardOperation>> entry : operationsByCard.entrySet()) {
+                long monthCount = 0;
+                long dayCount = 0;
+                double monthAmount = 0.0;
+                double dayAmount = 0.0;
+                for (CardOperation operation : entry.getValue()) {
+                    if (!operation.date().isBefore(monthStart)) {
+                        monthCount++;
+                        monthAmount += operation.amount();
+                    }
+                    if (!operation.date().isBefore(dayStart)) {
+                        dayCount++;
+                        dayAmount += operation.amount();
+                    }
+                }
+                snapshots.add(new CardUsageSnapshot(entry.getKey(), entry.getValue().size(), monthCount, dayCount,
+                        monthAmount, dayAmount));
+            }
+            return snapshots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<OperationRollup> aggregateRollups(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        Map<RollupKey, double[]> totals = new LinkedHashMap<>();
+        List<String> cardIds;
+        lock.readLock().lock();
+        try {
+            cardIds = new ArrayList<>(operationsByCard.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<String, CardType> cardTypes = cardTypesOf(cardIds);
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> operations = operationsByDate;
+            if (startDate != null) {
+                operations = operations.tailSet(probe(startDate, LOWEST_ID), true);
+            }
+            if (endDate != null) {
+                operations = operations.headSet(probe(endDate, HIGHEST_ID), true);
+            }
+            for (CardOperation operation : operations) {
+                RollupKey key = new RollupKey(granularity.bucketOf(operation.date()), operation.type(), cardTypes.get(operation.cardId()));
+                double[] total = totals.computeIfAbsent(key, k -> new double[2]);
+                total[0]++;
+                total[1] += operation.amount();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<OperationRollup> rollups = new ArrayList<>(totals.size());
+        for (Map.Entry<RollupKey, double[]> entry : totals.entrySet()) {
+            RollupKey key = entry.getKey();
+            rollups.add(new OperationRollup(key.bucketStart(), key.type(), key.cardType(), (long) entry.getValue()[0], entry.getValue()[1]));
+        }
+        return rollups;
+    }
+
+    private Map<String, CardType> cardTypesOf(Collection<String> cardIds) throws DaoException {
+        Map<String, CardType> cardTypes = new HashMap<>();
+        if (cardDAO == null) {
+            return cardTypes;
+        }
+        for (Map.Entry<String, Card> entry : cardDAO.findByIds(cardIds).entrySet()) {
+            cardTypes.put(entry.getKey(), entry.getValue().getCardType());
+        }
+        return cardTypes;
+    }
+
+    private CardUsage usageOf(String cardId) {
+        NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+        if (cardOperations == null) {
+            return new CardUsage(cardId, 0, 0.0);
+        }
+        double totalAmount = 0.0;
+        for (CardOperation operation : cardOperations) {
+            totalAmount += operation.amount();
+        }
+        return new CardUsage(cardId, cardOperations.size(), totalAmount);
+    }
+
+    @Override
+    public Stream<CardOperation> streamAll() throws DaoException {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(operationsByDate).stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<CardOperation> streamByCardId(String cardId) throws DaoException {
+        lock.readLock().lock();
+        try {
+            NavigableSet<CardOperation> cardOperations = operationsByCard.get(cardId);
+            return cardOperations == null ? Stream.empty() : new ArrayList<>(cardOperations).stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<CardOperation> streamByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(range(operationsByDate, startDate, endDate)).stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<CardOperation> streamOrderedByCard(String afterCardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        lock.readLock().lock();
+        try {
+            List<String> cardIds = new ArrayList<>();
+            for (String cardId : operationsByCard.keySet()) {
+                if (afterCardId == null || cardId.compareTo(afterCardId) > 0) {
+                    cardIds.add(cardId);
+                }
+            }
+            cardIds.sort(Comparator.naturalOrder());
+            List<CardOperation> operations = new ArrayList<>();
+            for (String cardId : cardIds) {
+                operations.addAll(range(operationsByCard.get(cardId), startDate, endDate));
+            }
+            return operations.stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkPageSize(int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+    }
+
+    private static Page<CardOperation> page(NavigableSet<CardOperation> operations, PageCursor after, int pageSize) {
+        NavigableSet<CardOperation> remaining = after == null
+                ? operations
+                : operations.headSet(probe(after.date(), after.id()), false);
+        List<CardOperation> items = new ArrayList<>(pageSize);
+        for (CardOperation operation : remaining.descendingSet()) {
+            if (items.size() == pageSize) {
+                CardOperation last = items.get(pageSize - 1);
+                return new Page<>(items, new PageCursor(last.date(), last.id()));
+            }
+            items.add(operation);
+        }
+        return new Page<>(items, null);
+    }
+
+    private void index(CardOperation operation) {
+        operationsById.put(operation.id(), operation);
+        operationsByDate.add(operation);
+        operationsByType.computeIfAbsent(operation.type(), key -> new TreeSet<>(BY_DATE_THEN_ID)).add(operation);
+        operationsByCard.computeIfAbsent(operation.cardId(), key -> new TreeSet<>(BY_DATE_THEN_ID)).add(operation);
+    }
+
+    private static NavigableSet<CardOperation> range(NavigableSet<CardOperation> operations, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            return new TreeSet<>(BY_DATE_THEN_ID);
+        }
+        return operations.subSet(probe(startDate, LOWEST_ID), true, probe(endDate, HIGHEST_ID), true);
+    }
+
+    private static CardOperation probe(LocalDateTime date, String id) {
+        return new CardOperation(id, date, 0, null, null, null);
+    }
+}
@@ -0,0 +1,101 @@
+package bank.dao.impl;
+
+import bank.model.BatchResult;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class JdbcSupport {
+
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement preparedStatement, T value) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface RowHandler {
+        void handle(ResultSet result) throws SQLException;
+    }
+
+    private JdbcSupport() {
+    }
+
+    static void queryByIds(Connection connection, String sqlBeforeList, String sqlAfterList, Collection<String> ids,
+                           int maxInListSize, RowHandler handler) throws SQLException {
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinctIds.size(); from += maxInListSize) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + maxInListSize, distinctIds.size()));
+            String sql = sqlBeforeList + String.join(", ", Collections.nCopies(chunk.size(), "?")) + sqlAfterList;
+            try(PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                for (int index = 0; index < chunk.size(); index++) {
+                    preparedStatement.setString(index + 1, chunk.get(index));
+                }
+                try(ResultSet result = preparedStatement.executeQuery()) {
+                    while (result.next()) {
+                        handler.handle(result);
+                    }
+                }
+            }
+        }
+    }
+
+    static <T> BatchResult<T> insertAll(Connection connection, String sql, List<T> rows, int batchSize,
+                                        Binder<T> binder) throws SQLException {
+        List<T> succeeded = new ArrayList<>(rows.size());
+        Map<Integer, String> failures = new TreeMap<>();
+        if (rows.isEmpty()) {
+            return new BatchResult<>(succeeded, failures);
+        }
+
+        try(PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            try {
+                for (int from = 0; from < rows.size(); from += batchSize) {
+                    List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                    try {
+                        for (T row : chunk) {
+                            binder.bind(preparedStatement, row);
+                            preparedStatement.addBatch();
+                        }
+                        preparedStatement.executeBatch();
+                        connection.commit();
+                        succeeded.addAll(chunk);
+                    } catch (SQLException e) {
+                        connection.rollback();
+                        preparedStatement.clearBatch();
+                        insertIndividually(connection, preparedStatement, chunk, from, binder, succeeded, failures);
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        return new BatchResult<>(succeeded, failures);
+    }
+
+    private static <T> void insertIndividually(Connection connection, PreparedStatement preparedStatement, List<T> chunk,
+                                               int offset, Binder<T> binder, List<T> succeeded,
+                                               Map<Integer, String> failures) throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            T row = chunk.get(i);
+            try {
+                binder.bind(preparedStatement, row);
+                preparedStatement.executeUpdate();
+                connection.commit();
+                succeeded.add(row);
+            } catch (SQLException e) {
+                connection.rollback();
+                failures.put(offset + i, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,37 +1,78 @@
 package bank.dao.impl;
 
+import bank.config.AppConfig;
 import bank.config.DatabaseConnection;
 import bank.dao.OperationDAO;
 import bank.exception.DaoException;
+import bank.exception.UncheckedDaoException;
+import bank.model.BatchResult;
 import bank.model.CardOperation;
+import bank.model.CardUsage;
+import bank.model.CardUsageSnapshot;
+import bank.model.OperationRollup;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.enums.CardType;
 import bank.model.enums.OperationType;
+import bank.model.enums.RollupGranularity;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class OperationDAOImplementation implements OperationDAO {
 
+    private static final String KEYSET_CONDITION = "(operation_date < ? OR (operation_date = ? AND id < ?))";
+    static final String INSERT_SQL = "INSERT INTO operations (id, card_id, operation_date, amount, type, location) VALUES (?, ?, ?, ?, ?, ?)";
+    static final String DELETE_SQL = "DELETE FROM operations WHERE id = ?";
+
+    private interface StatementBinder {
+        void bind(PreparedStatement preparedStatement) throws SQLException;
+    }
+
     private final DatabaseConnection dbconfig;
+    private final int batchSize;
+    private final int streamFetchSize;
+    private final int maxInListSize;
 
     public OperationDAOImplementation() {
+        this(AppConfig.getInt("bank.db.batchSize", 500), AppConfig.getInt("bank.db.streamFetchSize", 1000));
+    }
+
+    public OperationDAOImplementation(int batchSize) {
+        this(batchSize, AppConfig.getInt("bank.db.streamFetchSize", 1000));
+    }
+
+    public OperationDAOImplementation(int batchSize, int streamFetchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (streamFetchSize < 1) {
+            throw new IllegalArgumentException("Stream fetch size must be positive: " + streamFetchSize);
+        }
         this.dbconfig = DatabaseConnection.getInstance();
+        this.batchSize = batchSize;
+        this.streamFetchSize = streamFetchSize;
+        this.maxInListSize = AppConfig.getInt("bank.db.maxInListSize", 500);
     }
 
     @Override
     public CardOperation create(CardOperation operation) throws DaoException {
-        String sql = "INSERT INTO operations (id, card_id, operation_date, amount, type, location) VALUES (?, ?, ?, ?, ?, ?)";
         try(Connection connection = dbconfig.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL);
         ){
-            preparedStatement.setString(1, operation.id());
-            preparedStatement.setString(2, operation.cardId());
-            preparedStatement.setTimestamp(3, Timestamp.valueOf(operation.date()));
-            preparedStatement.setDouble(4, operation.amount());
-            preparedStatement.setString(5, mapOperationTypeToSQL(operation.type()));
-            preparedStatement.setString(6, operation.location());
+            bindOperation(preparedStatement, operation);
 
             preparedStatement.executeUpdate();
             return operation;
@@ -41,11 +82,19 @@ public class OperationDAOImplementation implements OperationDAO {
         }
     }
 
+    @Override
+    public BatchResult<CardOperation> createAll(Collection<CardOperation> operations) throws DaoException {
+        try(Connection connection = dbconfig.getConnection()) {
+            return JdbcSupport.insertAll(connection, INSERT_SQL, new ArrayList<>(operations), batchSize, OperationDAOImplementation::bindOperation);
+        } catch(SQLException e) {
+            throw new DaoException("Failed to create operations: " + e.getMessage());
+        }
+    }
+
     @Override
     public boolean delete(String id) throws DaoException {
-        String sql = "DELETE FROM operations WHERE id = ?";
         try(Connection connection = dbconfig.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(DELETE_SQL);
         ){
             preparedStatement.setString(1, id);
             int count = preparedStatement.executeUpdate();
@@ -92,6 +141,67 @@ public class OperationDAOImplementation implements OperationDAO {
         }
     }
 
+    @Override
+    public Map<String, List<CardOperation>> findByCardIds(Collection<String> cardIds) throws DaoException {
+        Map<String, List<CardOperation>> operationsByCard = new LinkedHashMap<>();
+        for (String cardId : cardIds) {
+            operationsByCard.put(cardId, new ArrayList<>());
+        }
+        if (operationsByCard.isEmpty()) {
+            return operationsByCard;
+        }
+        try(Connection connection = dbconfig.getConnection()){
+            JdbcSupport.queryByIds(connection, "SELECT * FROM operations WHERE card_id IN (",
+                    ") ORDER BY card_id, operation_date DESC", operationsByCard.keySet(), maxInListSize, result -> {
+                        CardOperation operation = extractOperationFromResultSet(result);
+                        operationsByCard.get(operation.cardId()).add(operation);
+                    });
+            return operationsByCard;
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve operations by cards: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CardOperation> findByClientId(String clientId) throws DaoException {
+        String sql = "SELECT o.* FROM operations o JOIN cards c ON c.id = o.card_id WHERE c.client_id = ? "
+                + "ORDER BY o.operation_date DESC, o.id DESC";
+        List<CardOperation> operations = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, clientId);
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                operations.add(extractOperationFromResultSet(result));
+            }
+            return operations;
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve client operations: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<CardOperation> findByClientId(String clientId, PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        String sql = after == null
+                ? "SELECT o.* FROM operations o JOIN cards c ON c.id = o.card_id WHERE c.client_id = ? "
+                        + "ORDER BY o.operation_date DESC, o.id DESC LIMIT ?"
+                : "SELECT o.* FROM operations o JOIN cards c ON c.id = o.card_id WHERE c.client_id = ? "
+                        + "AND (o.operation_date < ? OR (o.operation_date = ? AND o.id < ?)) "
+                        + "ORDER BY o.operation_date DESC, o.id DESC LIMIT ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, clientId);
+            int index = bindCursor(preparedStatement, 2, after);
+            preparedStatement.setInt(index, pageSize + 1);
+            return readPage(preparedStatement.executeQuery(), pageSize);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve client operations page: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<CardOperation> findByType(OperationType type) throws DaoException {
         String sql = "SELECT * FROM operations WHERE type = ? ORDER BY operation_date DESC";
@@ -111,6 +221,24 @@ public class OperationDAOImplementation implements OperationDAO {
         }
     }
 
+    @Override
+    public Page<CardOperation> findByType(OperationType type, PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        String sql = after == null
+                ? "SELECT * FROM operations WHERE type = ? ORDER BY operation_date DESC, id DESC LIMIT ?"
+                : "SELECT * FROM operations WHERE type = ? AND " + KEYSET_CONDITION + " ORDER BY operation_date DESC, id DESC LIMIT ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, mapOperationTypeToSQL(type));
+            int index = bindCursor(preparedStatement, 2, after);
+            preparedStatement.setInt(index, pageSize + 1);
+            return readPage(preparedStatement.executeQuery(), pageSize);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve operations page by type: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
         String sql = "SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? ORDER BY operation_date DESC";
@@ -131,6 +259,25 @@ public class OperationDAOImplementation implements OperationDAO {
         }
     }
 
+    @Override
+    public Page<CardOperation> findByDateRange(LocalDateTime startDate, LocalDateTime endDate, PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        String sql = after == null
+                ? "SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? ORDER BY operation_date DESC, id DESC LIMIT ?"
+                : "SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? AND " + KEYSET_CONDITION + " ORDER BY operation_date DESC, id DESC LIMIT ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setTimestamp(1, Timestamp.valueOf(startDate));
+            preparedStatement.setTimestamp(2, Timestamp.valueOf(endDate));
+            int index = bindCursor(preparedStatement, 3, after);
+            preparedStatement.setInt(index, pageSize + 1);
+            return readPage(preparedStatement.executeQuery(), pageSize);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve operations page by date range: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<CardOperation> findByCardIdAndDateRange(String cardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
         String sql = "SELECT * FROM operations WHERE card_id = ? AND operation_date BETWEEN ? AND ? ORDER BY operation_date DESC";
@@ -190,6 +337,351 @@ public class OperationDAOImplementation implements OperationDAO {
         }
     }
 
+    @Override
+    public Page<CardOperation> findAll(PageCursor after, int pageSize) throws DaoException {
+        checkPageSize(pageSize);
+        String sql = after == null
+                ? "SELECT * FROM operations ORDER BY operation_date DESC, id DESC LIMIT ?"
+                : "SELECT * FROM operations WHERE " + KEYSET_CONDITION + " ORDER BY operation_date DESC, id DESC LIMIT ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            int index = bindCursor(preparedStatement, 1, after);
+            preparedStatement.setInt(index, pageSize + 1);
+            return readPage(preparedStatement.executeQuery(), pageSize);
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve operations page: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long countByCard(String cardId) throws DaoException {
+        String sql = "SELECT COUNT(*) FROM operations WHERE card_id = ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, cardId);
+            ResultSet result = preparedStatement.executeQuery();
+            return result.next() ? result.getLong(1) : 0;
+        } catch(SQLException e){
+            throw new DaoException("Failed to count operations by card: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public double sumAmountByCard(String cardId) throws DaoException {
+        String sql = "SELECT COALESCE(SUM(amount), 0) FROM operations WHERE card_id = ?";
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, cardId);
+            ResultSet result = preparedStatement.executeQuery();
+            return result.next() ? result.getDouble(1) : 0.0;
+        } catch(SQLException e){
+            throw new DaoException("Failed to sum operations by card: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<OperationType, Long> countByTypeInRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        String sql = "SELECT type, COUNT(*) AS operation_count FROM operations WHERE operation_date BETWEEN ? AND ? GROUP BY type";
+        Map<OperationType, Long> counts = new EnumMap<>(OperationType.class);
+        for (OperationType type : OperationType.values()) {
+            counts.put(type, 0L);
+        }
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setTimestamp(1, Timestamp.valueOf(startDate));
+            preparedStatement.setTimestamp(2, Timestamp.valueOf(endDate));
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                counts.put(mapSQLToOperationType(result.getString("type")), result.getLong("operation_count"));
+            }
+            return counts;
+        } catch(SQLException e){
+            throw new DaoException("Failed to count operations by type: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CardUsage> findTopCardsByOperationCount(int limit) throws DaoException {
+        if (limit < 1) {
+            throw new DaoException("Limit must be positive: " + limit);
+        }
+        String sql = "SELECT card_id, COUNT(*) AS operation_count, SUM(amount) AS total_amount FROM operations "
+                + "GROUP BY card_id ORDER BY operation_count DESC, card_id LIMIT ?";
+        List<CardUsage> usages = new ArrayList<>(limit);
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setInt(1, limit);
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                usages.add(extractUsageFromResultSet(result));
+            }
+            return usages;
+        } catch(SQLException e){
+            throw new DaoException("Failed to retrieve top cards: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<String, CardUsage> aggregateByCards(Collection<String> cardIds) throws DaoException {
+        Map<String, CardUsage> usages = new LinkedHashMap<>();
+        for (String cardId : cardIds) {
+            usages.put(cardId, new CardUsage(cardId, 0, 0.0));
+        }
+        if (usages.isEmpty()) {
+            return usages;
+        }
+        try(Connection connection = dbconfig.getConnection()){
+            JdbcSupport.queryByIds(connection,
+                    "SELECT card_id, COUNT(*) AS operation_count, SUM(amount) AS total_amount FROM operations WHERE card_id IN (",
+                    ") GROUP BY card_id", usages.keySet(), maxInListSize, result -> {
+                        CardUsage usage = extractUsageFromResultSet(result);
+                        usages.put(usage.cardId(), usage);
+                    });
+            return usages;
+        } catch(SQLException e){
+            throw new DaoException("Failed to aggregate operations by card: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<String, CardUsage> aggregateByClient(String clientId) throws DaoException {
+        String sql = "SELECT c.id AS card_id, c.number, COUNT(o.id) AS operation_count, COALESCE(SUM(o.amount), 0) AS total_amount "
+                + "FROM cards c LEFT JOIN operations o ON o.card_id = c.id "
+                + "WHERE c.client_id = ? GROUP BY c.id, c.number";
+        Map<String, CardUsage> usages = new LinkedHashMap<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setString(1, clientId);
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                usages.put(result.getString("number"), extractUsageFromResultSet(result));
+            }
+            return usages;
+        } catch(SQLException e){
+            throw new DaoException("Failed to aggregate operations by client: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CardUsageSnapshot> aggregateUsageByCard(LocalDateTime monthStart, LocalDateTime dayStart) throws DaoException {
+        String sql = "SELECT card_id, COUNT(*) AS all_time_count, "
+                + "SUM(CASE WHEN operation_date >= ? THEN 1 ELSE 0 END) AS month_count, "
+                + "SUM(CASE WHEN operation_date >= ? THEN 1 ELSE 0 END) AS day_count, "
+                + "SUM(CASE WHEN operation_date >= ? THEN amount ELSE 0 END) AS month_amount, "
+                + "SUM(CASE WHEN operation_date >= ? THEN amount ELSE 0 END) AS day_amount "
+                + "FROM operations GROUP BY card_id";
+        List<CardUsageSnapshot> snapshots = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            preparedStatement.setTimestamp(1, Timestamp.valueOf(monthStart));
+            preparedStatement.setTimestamp(2, Timestamp.valueOf(dayStart));
+            preparedStatement.setTimestamp(3, Timestamp.valueOf(monthStart));
+            preparedStatement.setTimestamp(4, Timestamp.valueOf(dayStart));
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                snapshots.add(new CardUsageSnapshot(result.getString("card_id"), result.getLong("all_time_count"),
+                        result.getLong("month_count"), result.getLong("day_count"),
+                        result.getDouble("month_amount"), result.getDouble("day_amount")));
+            }
+            return snapshots;
+        } catch(SQLException e){
+            throw new DaoException("Failed to aggregate card usage: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<OperationRollup> aggregateRollups(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        String bucket = switch (granularity) {
+            case HOUR -> "DATE_FORMAT(o.operation_date, '%Y-%m-%d %H:00:00')";
+            case DAY -> "DATE_FORMAT(o.operation_date, '%Y-%m-%d 00:00:00')";
+            case MONTH -> "DATE_FORMAT(o.operation_date, '%Y-%m-01 00:00:00')";
+        };
+        List<String> conditions = new ArrayList<>(2);
+        if (startDate != null) {
+            conditions.add("o.operation_date >= ?");
+        }
+        if (endDate != null) {
+            conditions.add("o.operation_date <= ?");
+        }
+        String sql = "SELECT " + bucket + " AS bucket_start, o.type, c.card_type, COUNT(*) AS operation_count, SUM(o.amount) AS total_amount "
+                + "FROM operations o LEFT JOIN cards c ON c.id = o.card_id "
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ")
+                + "GROUP BY bucket_start, o.type, c.card_type ORDER BY bucket_start";
+        List<OperationRollup> rollups = new ArrayList<>();
+        try(Connection connection = dbconfig.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        ){
+            int index = 1;
+            if (startDate != null) {
+                preparedStatement.setTimestamp(index++, Timestamp.valueOf(startDate));
+            }
+            if (endDate != null) {
+                preparedStatement.setTimestamp(index, Timestamp.valueOf(endDate));
+            }
+            ResultSet result = preparedStatement.executeQuery();
+            while (result.next()){
+                String cardType = result.getString("card_type");
+                rollups.add(new OperationRollup(
+                        Timestamp.valueOf(result.getString("bucket_start")).toLocalDateTime(),
+                        mapSQLToOperationType(result.getString("type")),
+                        cardType == null ? null : CardType.valueOf(cardType),
+                        result.getLong("operation_count"),
+                        result.getDouble("total_amount")));
+            }
+            return rollups;
+        } catch(SQLException e){
+            throw new DaoException("Failed to aggregate operation rollups: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Stream<CardOperation> streamAll() throws DaoException {
+        return stream("SELECT * FROM operations ORDER BY operation_date, id",
+                preparedStatement -> {},
+                "Failed to stream operations: ");
+    }
+
+    @Override
+    public Stream<CardOperation> streamByCardId(String cardId) throws DaoException {
+        return stream("SELECT * FROM operations WHERE card_id = ? ORDER BY operation_date, id",
+                preparedStatement -> preparedStatement.setString(1, cardId),
+                "Failed to stream operations by card: ");
+    }
+
+    @Override
+    public Stream<CardOperation> streamByDateRange(LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        return stream("SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? ORDER BY operation_date, id",
+                preparedStatement -> {
+                    preparedStatement.setTimestamp(1, Timestamp.valueOf(startDate));
+                    preparedStatement.setTimestamp(2, Timestamp.valueOf(endDate));
+                },
+                "Failed to stream operations by date range: ");
+    }
+
+    @Override
+    public Stream<CardOperation> streamOrderedByCard(String afterCardId, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        String sql = afterCardId == null
+                ? "SELECT * FROM operations WHERE operation_date BETWEEN ? AND ? ORDER BY card_id, operation_date, id"
+                : "SELECT * FROM operations WHERE card_id > ? AND operation_date BETWEEN ? AND ? ORDER BY card_id, operation_date, id";
+        return stream(sql,
+                preparedStatement -> {
+                    int index = 1;
+                    if (afterCardId != null) {
+                        preparedStatement.setString(index++, afterCardId);
+                    }
+                    preparedStatement.setTimestamp(index++, Timestamp.valueOf(startDate));
+                    preparedStatement.setTimestamp(index, Timestamp.valueOf(endDate));
+                },
+                "Failed to stream operations by card: ");
+    }
+
+    private Stream<CardOperation> stream(String sql, StatementBinder binder, String failure) throws DaoException {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet result = null;
+        try {
+            connection = dbconfig.getConnection();
+            preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(streamFetchSize);
+            binder.bind(preparedStatement);
+            result = preparedStatement.executeQuery();
+        } catch (SQLException e) {
+            closeAll(result, preparedStatement, connection);
+            throw new DaoException(failure + e.getMessage());
+        }
+
+        ResultSet rows = result;
+        Spliterator<CardOperation> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CardOperation> action) {
+                try {
+                    if (!rows.next()) {
+                        return false;
+                    }
+                    action.accept(extractOperationFromResultSet(rows));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedDaoException(new DaoException(failure + e.getMessage()));
+                }
+            }
+        };
+        PreparedStatement statement = preparedStatement;
+        Connection streamConnection = connection;
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeAll(rows, statement, streamConnection));
+    }
+
+    private void closeAll(AutoCloseable... resources) {
+        SQLException failure = null;
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new SQLException(e.getMessage(), e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedDaoException(new DaoException("Failed to release streaming resources: " + failure.getMessage()));
+        }
+    }
+
+    private void checkPageSize(int pageSize) throws DaoException {
+        if (pageSize < 1) {
+            throw new DaoException("Page size must be positive: " + pageSize);
+        }
+    }
+
+    private int bindCursor(PreparedStatement preparedStatement, int index, PageCursor after) throws SQLException {
+        if (after == null) {
+            return index;
+        }
+        Timestamp cursorDate = Timestamp.valueOf(after.date());
+        preparedStatement.setTimestamp(index, cursorDate);
+        preparedStatement.setTimestamp(index + 1, cursorDate);
+        preparedStatement.setString(index + 2, after.id());
+        return index + 3;
+    }
+
+    private Page<CardOperation> readPage(ResultSet result, int pageSize) throws SQLException {
+        List<CardOperation> operations = new ArrayList<>();
+        PageCursor nextCursor = null;
+        while (result.next()) {
+            if (operations.size() == pageSize) {
+                CardOperation last = operations.get(pageSize - 1);
+                nextCursor = new PageCursor(last.date(), last.id());
+                break;
+            }
+            operations.add(extractOperationFromResultSet(result));
+        }
+        return new Page<>(operations, nextCursor);
+    }
+
+    static void bindOperation(PreparedStatement preparedStatement, CardOperation operation) throws SQLException {
+        preparedStatement.setString(1, operation.id());
+        preparedStatement.setString(2, operation.cardId());
+        preparedStatement.setTimestamp(3, Timestamp.valueOf(operation.date()));
+        preparedStatement.setDouble(4, operation.amount());
+        preparedStatement.setString(5, mapOperationTypeToSQL(operation.type()));
+        preparedStatement.setString(6, operation.location());
+    }
+
+    private CardUsage extractUsageFromResultSet(ResultSet result) throws SQLException {
+        return new CardUsage(result.getString("card_id"), result.getLong("operation_count"), result.getDouble("total_amount"));
+    }
+
     private CardOperation extractOperationFromResultSet(ResultSet result) throws SQLException {
         String id = result.getString("id");
         String cardId = result.getString("card_id");
@@ -203,7 +695,7 @@ public class OperationDAOImplementation implements OperationDAO {
         return new CardOperation(id, date, amount, type, location, cardId);
     }
 
-    private String mapOperationTypeToSQL(OperationType type) {
+    private static String mapOperationTypeToSQL(OperationType type) {
         return switch (type) {
             case PURCHASE -> "ACHAT";
             case WITHDRAWAL -> "RETRAIT";
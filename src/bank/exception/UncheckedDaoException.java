@@ -0,0 +1,12 @@
+package bank.exception;
+
+public class UncheckedDaoException extends RuntimeException{
+    public UncheckedDaoException(DaoException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized DaoException getCause() {
+        return (DaoException) super.getCause();
+    }
+}
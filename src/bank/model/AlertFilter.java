@@ -0,0 +1,21 @@
+package bank.model;
+
+import bank.model.enums.AlertLevelType;
+
+import java.util.Set;
+
+public record AlertFilter(Set<AlertLevelType> levels, String cardId) {
+
+    public AlertFilter {
+        levels = levels == null ? Set.of() : Set.copyOf(levels);
+    }
+
+    public static AlertFilter all() {
+        return new AlertFilter(Set.of(), null);
+    }
+
+    public boolean matches(FraudAlert alert) {
+        return (levels.isEmpty() || levels.contains(alert.level()))
+                && (cardId == null || cardId.equals(alert.cardId()));
+    }
+}
@@ -0,0 +1,15 @@
+package bank.model;
+
+import java.util.List;
+import java.util.Map;
+
+public record BatchResult<T>(List<T> succeeded, Map<Integer, String> failures) {
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public int total() {
+        return succeeded.size() + failures.size();
+    }
+}
@@ -0,0 +1,9 @@
+package bank.model;
+
+public record CacheStatistics(String name, int size, int maxSize, long hits, long misses, long evictions, long invalidations) {
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
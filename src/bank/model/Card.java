@@ -19,7 +19,11 @@ public sealed abstract class Card permits DebitCard, CreditCard, PrepaidCard{
 
 
     protected Card(String number, LocalDate expirationDate, Status status, String clientId) {
-        this.id = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), number, expirationDate, status, clientId);
+    }
+
+    protected Card(String id, String number, LocalDate expirationDate, Status status, String clientId) {
+        this.id = id;
         this.number = number;
         this.expirationDate = expirationDate;
         this.status = status;
@@ -62,6 +66,8 @@ public sealed abstract class Card permits DebitCard, CreditCard, PrepaidCard{
 
     public abstract boolean isOperationAllowed(double amount);
 
+    public abstract Card copy();
+
     @Override
     public String toString() {
         return "Card information: id= " + id + " | number= " + number + " | Card type: " + getCardType() + " | expirationDate= " + expirationDate + " | status= " + status + " | clientId= " + clientId;
@@ -0,0 +1,3 @@
+package bank.model;
+
+public record CardUsage(String cardId, long operationCount, double totalAmount) {}
@@ -0,0 +1,19 @@
+package bank.model;
+
+import bank.model.enums.UsageWindow;
+
+public record CardUsageSnapshot(String cardId, long allTimeCount, long monthCount, long dayCount,
+                                double monthAmount, double dayAmount) {
+
+    public CardUsageSnapshot(String cardId, long allTimeCount, long monthCount, long dayCount) {
+        this(cardId, allTimeCount, monthCount, dayCount, 0.0, 0.0);
+    }
+
+    public long count(UsageWindow window) {
+        return switch (window) {
+            case ALL_TIME -> allTimeCount;
+            case MONTH -> monthCount;
+            case DAY -> dayCount;
+        };
+    }
+}
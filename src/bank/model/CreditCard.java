@@ -16,6 +16,12 @@ public final class CreditCard extends Card {
         this.monthlyLimit = monthlyLimit;
     }
 
+    private CreditCard(String id, String number, LocalDate expirationDate, Status status, String clientId, double monthlyLimit, double interestRate) {
+        super(id, number, expirationDate, status, clientId);
+        this.interestRate = interestRate;
+        this.monthlyLimit = monthlyLimit;
+    }
+
     public double getMonthlyLimit() {
         return monthlyLimit;
     }
@@ -34,5 +40,10 @@ public final class CreditCard extends Card {
         return amount <= monthlyLimit;
     }
 
+    @Override
+    public CreditCard copy() {
+        return new CreditCard(getId(), getNumber(), getExpirationDate(), getStatus(), getClientId(), monthlyLimit, interestRate);
+    }
+
 
 }
@@ -0,0 +1,31 @@
+package bank.model;
+
+import bank.model.enums.AlertLevelType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public record DashboardSnapshot(LocalDateTime generatedAt,
+                                List<Card> topCards,
+                                Map<String, Integer> monthlyStatistics,
+                                List<Card> blockedCards,
+                                List<Card> suspiciousCards,
+                                Map<AlertLevelType, Long> alertCounts,
+                                Map<String, String> failures,
+                                long elapsedMillis) {
+
+    public static final String TOP_CARDS = "Top cards";
+    public static final String MONTHLY_STATISTICS = "Monthly statistics";
+    public static final String BLOCKED_CARDS = "Blocked cards";
+    public static final String SUSPICIOUS_CARDS = "Suspicious cards";
+    public static final String ALERT_COUNTS = "Alert counts";
+
+    public boolean isAvailable(String section) {
+        return !failures.containsKey(section);
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
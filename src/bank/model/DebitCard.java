@@ -14,6 +14,11 @@ public final class DebitCard extends Card {
         this.dailyLimit = dailyLimit;
     }
 
+    private DebitCard(String id, String number, LocalDate expirationDate, Status status, String clientId, double dailyLimit) {
+        super(id, number, expirationDate, status, clientId);
+        this.dailyLimit = dailyLimit;
+    }
+
     public double getDailyLimit() {
         return dailyLimit;
     }
@@ -27,4 +32,9 @@ public final class DebitCard extends Card {
     public boolean isOperationAllowed(double amount){
         return amount <= dailyLimit;
     }
+
+    @Override
+    public DebitCard copy() {
+        return new DebitCard(getId(), getNumber(), getExpirationDate(), getStatus(), getClientId(), dailyLimit);
+    }
 }
@@ -2,4 +2,13 @@ package bank.model;
 
 import bank.model.enums.AlertLevelType;
 
-public record FraudAlert(String id, String description, AlertLevelType level, String cardId) {}
+public record FraudAlert(String id, String description, AlertLevelType level, String cardId, int occurrences) {
+
+    public FraudAlert(String id, String description, AlertLevelType level, String cardId) {
+        this(id, description, level, cardId, 1);
+    }
+
+    public FraudAlert withOccurrences(int occurrences) {
+        return new FraudAlert(id, description, level, cardId, occurrences);
+    }
+}
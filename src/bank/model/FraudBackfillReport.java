@@ -0,0 +1,9 @@
+package bank.model;
+
+public record FraudBackfillReport(String resumedAfterCardId, long cardsProcessed, long operationsProcessed,
+                                  long alertsWritten, long alertsFailed, long elapsedMillis) {
+
+    public double operationsPerSecond() {
+        return elapsedMillis == 0 ? operationsProcessed : operationsProcessed * 1000.0 / elapsedMillis;
+    }
+}
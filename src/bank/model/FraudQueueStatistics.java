@@ -0,0 +1,5 @@
+package bank.model;
+
+public record FraudQueueStatistics(int workers, int depth, int capacity, long submitted, long processed,
+                                   long dropped, long failed, long oldestPendingMillis, long lastLagMillis,
+                                   long maxLagMillis) {}
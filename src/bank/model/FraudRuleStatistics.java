@@ -0,0 +1,4 @@
+package bank.model;
+
+public record FraudRuleStatistics(String rule, boolean enabled, long evaluations, long hits,
+                                  double averageMicros, double maxMicros) {}
@@ -0,0 +1,8 @@
+package bank.model;
+
+import bank.model.enums.CardType;
+import bank.model.enums.OperationType;
+
+import java.time.LocalDateTime;
+
+public record OperationRollup(LocalDateTime bucketStart, OperationType type, CardType cardType, long operationCount, double totalAmount) {}
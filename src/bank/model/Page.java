@@ -0,0 +1,10 @@
+package bank.model;
+
+import java.util.List;
+
+public record Page<T>(List<T> items, PageCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
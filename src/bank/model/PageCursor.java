@@ -0,0 +1,10 @@
+package bank.model;
+
+import java.time.LocalDateTime;
+
+public record PageCursor(LocalDateTime date, String id) {
+
+    public static PageCursor ofId(String id) {
+        return new PageCursor(null, id);
+    }
+}
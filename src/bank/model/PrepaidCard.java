@@ -14,6 +14,11 @@ public final class PrepaidCard extends Card {
         this.balance = balance;
     }
 
+    private PrepaidCard(String id, String number, LocalDate expirationDate, Status status, String clientId, double balance) {
+        super(id, number, expirationDate, status, clientId);
+        this.balance = balance;
+    }
+
     public double getBalance() {
         return balance;
     }
@@ -32,4 +37,9 @@ public final class PrepaidCard extends Card {
         return amount <= balance;
     }
 
+    @Override
+    public PrepaidCard copy() {
+        return new PrepaidCard(getId(), getNumber(), getExpirationDate(), getStatus(), getClientId(), balance);
+    }
+
 }
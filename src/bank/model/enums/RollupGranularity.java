@@ -0,0 +1,18 @@
+package bank.model.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+    MONTH;
+
+    public LocalDateTime bucketOf(LocalDateTime date) {
+        return switch (this) {
+            case HOUR -> date.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> date.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> date.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+}
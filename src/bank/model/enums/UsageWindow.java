@@ -0,0 +1,7 @@
+package bank.model.enums;
+
+public enum UsageWindow {
+    ALL_TIME,
+    MONTH,
+    DAY
+}
@@ -0,0 +1,14 @@
+package bank.services;
+
+import bank.model.Card;
+import bank.model.CardOperation;
+
+import java.util.List;
+
+public interface CardListener {
+    void onCardDeleted(Card card, List<CardOperation> operations);
+
+    default void onCardCreated(Card card) {}
+
+    default void onCardUpdated(Card card) {}
+}
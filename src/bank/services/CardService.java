@@ -14,10 +14,12 @@ public interface CardService {
     Card suspendCard(String cardId) throws ServiceException;
     Card blockCard(String cardId) throws ServiceException;
     Card renewCard(String cardId) throws ServiceException;
+    Card topUpCard(String cardId, double amount) throws ServiceException;
     boolean verifyLimitBeforeOperation(String cardId, double amount) throws ServiceException;
     List<Card> findCardsByClient(String clientId) throws ServiceException;
     Optional<Card> getCardDetails(String cardId) throws ServiceException;
     List<Card> getCardsByStatus(Status status) throws ServiceException;
     boolean deleteCard(String cardId) throws ServiceException;
+    void addCardListener(CardListener listener);
 }
 
@@ -2,6 +2,8 @@ package bank.services;
 
 import bank.exception.ServiceException;
 import bank.model.Client;
+import bank.model.Page;
+import bank.model.PageCursor;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +15,5 @@ public interface ClientService {
     Optional<Client> searchByEmail(String email) throws ServiceException;
     Optional<Client> searchByPhone(String phone) throws ServiceException;
     List<Client> listAllClients() throws ServiceException;
+    Page<Client> listClients(PageCursor cursor, int pageSize) throws ServiceException;
 }
@@ -0,0 +1,11 @@
+package bank.services;
+
+import bank.model.CardOperation;
+import bank.model.FraudQueueStatistics;
+
+public interface FraudAnalysisQueue extends AutoCloseable {
+    boolean submit(CardOperation operation);
+    FraudQueueStatistics getStatistics();
+    @Override
+    void close();
+}
@@ -1,17 +1,30 @@
 package bank.services;
 
 import bank.exception.ServiceException;
+import bank.model.AlertFilter;
 import bank.model.CardOperation;
 import bank.model.FraudAlert;
+import bank.model.FraudRuleStatistics;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.AlertLevelType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
 
 public interface FraudService {
     void analyzeOperationInRealTime(CardOperation operation) throws ServiceException;
     List<FraudAlert> getAlertsByCard(String cardId) throws ServiceException;
+    Map<String, List<FraudAlert>> getAlertsByCards(Collection<String> cardIds) throws ServiceException;
     List<FraudAlert> getCriticalAlerts() throws ServiceException;
     List<FraudAlert> getAllAlerts() throws ServiceException;
+    Page<FraudAlert> getAlerts(PageCursor cursor, int pageSize) throws ServiceException;
     FraudAlert generateAlert(String cardId, String description, AlertLevelType level) throws ServiceException;
+    List<FraudRuleStatistics> getRuleStatistics();
+    long getSuppressedAlertCount();
+    Flow.Publisher<FraudAlert> alertFeed(AlertFilter filter);
+    long getDroppedAlertNotificationCount();
 }
 
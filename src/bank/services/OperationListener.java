@@ -0,0 +1,10 @@
+package bank.services;
+
+import bank.model.Card;
+import bank.model.CardOperation;
+
+public interface OperationListener {
+    void onOperationRecorded(CardOperation operation, Card card);
+
+    default void onOperationDeleted(CardOperation operation, Card card) {}
+}
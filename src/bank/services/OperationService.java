@@ -1,22 +1,33 @@
 package bank.services;
 
 import bank.exception.ServiceException;
+import bank.model.BatchResult;
 import bank.model.CardOperation;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.OperationType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OperationService {
     CardOperation recordPurchase(String cardId, double amount, String location) throws ServiceException;
     CardOperation recordWithdrawal(String cardId, double amount, String location) throws ServiceException;
     CardOperation recordOnlinePayment(String cardId, double amount, String location) throws ServiceException;
+    BatchResult<CardOperation> recordOperations(Collection<CardOperation> operations) throws ServiceException;
     List<CardOperation> getOperationsByCard(String cardId) throws ServiceException;
+    Map<String, List<CardOperation>> getOperationsByCards(Collection<String> cardIds) throws ServiceException;
     List<CardOperation> getOperationsByClient(String clientId) throws ServiceException;
+    Page<CardOperation> getClientTimeline(String clientId, PageCursor cursor, int pageSize) throws ServiceException;
+    Page<CardOperation> browseOperations(PageCursor cursor, int pageSize) throws ServiceException;
+    Page<CardOperation> browseOperationsByType(OperationType type, PageCursor cursor, int pageSize) throws ServiceException;
     List<CardOperation> filterOperationsByType(String cardId, OperationType type) throws ServiceException;
     List<CardOperation> filterOperationsByDateRange(String cardId, LocalDateTime startDate, LocalDateTime endDate) throws ServiceException;
     Optional<CardOperation> getOperationById(String operationId) throws ServiceException;
     boolean deleteOperation(String operationId) throws ServiceException;
+    void addOperationListener(OperationListener listener);
 }
 
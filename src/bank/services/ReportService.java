@@ -1,17 +1,34 @@
 package bank.services;
 
 import bank.exception.ServiceException;
+import bank.model.CacheStatistics;
 import bank.model.Card;
 import bank.model.CardOperation;
+import bank.model.CardUsageSnapshot;
+import bank.model.DashboardSnapshot;
+import bank.model.Page;
+import bank.model.OperationRollup;
+import bank.model.PageCursor;
+import bank.model.enums.RollupGranularity;
+import bank.model.enums.UsageWindow;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 public interface ReportService {
     List<Card> getTop5MostUsedCards() throws ServiceException;
+    List<CardUsageSnapshot> getTopUsedCards(UsageWindow window, int limit) throws ServiceException;
     Map<String, Integer> getMonthlyStatisticsByType(int month, int year) throws ServiceException;
+    Map<String, Integer> getDailyStatisticsByType(LocalDate day) throws ServiceException;
+    List<OperationRollup> getOperationRollups(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws ServiceException;
     List<Card> getBlockedCards() throws ServiceException;
     List<Card> getSuspiciousCards() throws ServiceException;
     Map<String, Object> getClientStatistics(String clientId) throws ServiceException;
+    Page<CardOperation> getOperationsJournal(LocalDateTime startDate, LocalDateTime endDate, PageCursor cursor, int pageSize) throws ServiceException;
+    Page<Card> getCardInventory(PageCursor cursor, int pageSize) throws ServiceException;
+    DashboardSnapshot getDashboardSnapshot();
+    List<CacheStatistics> getCacheStatistics();
 }
 
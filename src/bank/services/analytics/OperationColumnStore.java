@@ -0,0 +1,360 @@
+package bank.services.analytics;
+
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.exception.UncheckedDaoException;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CardUsage;
+import bank.model.enums.OperationType;
+import bank.services.CardListener;
+import bank.services.OperationListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class OperationColumnStore implements OperationListener, CardListener {
+
+    private static final OperationType[] TYPES = OperationType.values();
+    private static final byte DELETED = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_ROWS_PER_CHUNK = 16_384;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private interface RangeScan<A> {
+        void scan(A accumulator, int from, int to);
+    }
+
+    private record CardTotals(long[] counts, double[] amounts) {}
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        private int lookup(String value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        private String decode(int code) {
+            return values.get(code);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+
+    private final OperationDAO operationDAO;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Dictionary cards = new Dictionary();
+    private Dictionary locations = new Dictionary();
+    private long[] epochMillis = new long[INITIAL_CAPACITY];
+    private double[] amounts = new double[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] cardCodes = new int[INITIAL_CAPACITY];
+    private int[] locationCodes = new int[INITIAL_CAPACITY];
+    private long[] idHashes = new long[INITIAL_CAPACITY];
+    private int[] rowSlots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+    private int deletedRows;
+
+    public OperationColumnStore(OperationDAO operationDAO) {
+        this.operationDAO = operationDAO;
+    }
+
+    public void rebuild() throws DaoException {
+        lock.writeLock().lock();
+        try {
+            cards = new Dictionary();
+            locations = new Dictionary();
+            rowSlots = new int[INITIAL_CAPACITY * 2];
+            size = 0;
+            deletedRows = 0;
+            try (Stream<CardOperation> operations = operationDAO.streamAll()) {
+                operations.forEach(this::append);
+            } catch (UncheckedDaoException e) {
+                throw e.getCause();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onOperationRecorded(CardOperation operation, Card card) {
+        lock.writeLock().lock();
+        try {
+            append(operation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onOperationDeleted(CardOperation operation, Card card) {
+        lock.writeLock().lock();
+        try {
+            int row = findLiveRow(operation);
+            if (row >= 0) {
+                types[row] = DELETED;
+                deletedRows++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCardDeleted(Card card, List<CardOperation> operations) {
+        lock.writeLock().lock();
+        try {
+            int code = cards.lookup(card.getId());
+            if (code < 0) {
+                return;
+            }
+            for (int row = 0; row < size; row++) {
+                if (cardCodes[row] == code && types[row] != DELETED) {
+                    types[row] = DELETED;
+                    deletedRows++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<OperationType, Long> countByType(LocalDateTime startDate, LocalDateTime endDate) {
+        long from = toEpochMillis(startDate);
+        long to = toEpochMillis(endDate);
+        Map<OperationType, Long> counts = new EnumMap<>(OperationType.class);
+        lock.readLock().lock();
+        try {
+            long[] totals = scan(() -> new long[TYPES.length], (accumulator, start, end) -> {
+                for (int row = start; row < end; row++) {
+                    long time = epochMillis[row];
+                    byte type = types[row];
+                    if (type != DELETED && time >= from && time <= to) {
+                        accumulator[type]++;
+                    }
+                }
+            }, (left, right) -> {
+                for (int i = 0; i < left.length; i++) {
+                    left[i] += right[i];
+                }
+                return left;
+            });
+            for (OperationType type : TYPES) {
+                counts.put(type, totals[type.ordinal()]);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CardUsage> topCards(int limit) {
+        return topCards(limit, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public List<CardUsage> topCards(int limit, LocalDateTime startDate, LocalDateTime endDate) {
+        return topCards(limit, toEpochMillis(startDate), toEpochMillis(endDate));
+    }
+
+    public Map<String, Long> countByLocation(LocalDateTime startDate, LocalDateTime endDate) {
+        long from = toEpochMillis(startDate);
+        long to = toEpochMillis(endDate);
+        Map<String, Long> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int locationCount = locations.size();
+            long[] totals = scan(() -> new long[locationCount], (accumulator, start, end) -> {
+                for (int row = start; row < end; row++) {
+                    long time = epochMillis[row];
+                    if (types[row] != DELETED && time >= from && time <= to) {
+                        accumulator[locationCodes[row]]++;
+                    }
+                }
+            }, (left, right) -> {
+                for (int i = 0; i < locationCount; i++) {
+                    left[i] += right[i];
+                }
+                return left;
+            });
+            for (int code = 0; code < locationCount; code++) {
+                if (totals[code] > 0) {
+                    counts.put(locations.decode(code), totals[code]);
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<CardUsage> topCards(int limit, long from, long to) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        lock.readLock().lock();
+        try {
+            CardTotals totals = totalsByCard(from, to);
+            List<CardUsage> usages = new ArrayList<>();
+            for (int code = 0; code < totals.counts().length; code++) {
+                if (totals.counts()[code] > 0) {
+                    usages.add(new CardUsage(cards.decode(code), totals.counts()[code], totals.amounts()[code]));
+                }
+            }
+            usages.sort(Comparator.comparingLong(CardUsage::operationCount).reversed().thenComparing(CardUsage::cardId));
+            return usages.size() > limit ? new ArrayList<>(usages.subList(0, limit)) : usages;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CardTotals totalsByCard(long from, long to) {
+        int cardCount = cards.size();
+        return scan(() -> new CardTotals(new long[cardCount], new double[cardCount]), (accumulator, start, end) -> {
+            long[] counts = accumulator.counts();
+            double[] sums = accumulator.amounts();
+            for (int row = start; row < end; row++) {
+                long time = epochMillis[row];
+                if (types[row] != DELETED && time >= from && time <= to) {
+                    int card = cardCodes[row];
+                    counts[card]++;
+                    sums[card] += amounts[row];
+                }
+            }
+        }, (left, right) -> {
+            for (int i = 0; i < cardCount; i++) {
+                left.counts()[i] += right.counts()[i];
+                left.amounts()[i] += right.amounts()[i];
+            }
+            return left;
+        });
+    }
+
+    private <A> A scan(Supplier<A> identity, RangeScan<A> rangeScan, BinaryOperator<A> combiner) {
+        int rows = size;
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, rows / MIN_ROWS_PER_CHUNK));
+        int rowsPerChunk = (rows + chunks - 1) / chunks;
+        Stream<Integer> chunkStream = IntStream.range(0, chunks).boxed();
+        if (chunks > 1) {
+            chunkStream = chunkStream.parallel();
+        }
+        return chunkStream
+                .map(chunk -> {
+                    A accumulator = identity.get();
+                    rangeScan.scan(accumulator, chunk * rowsPerChunk, Math.min(rows, (chunk + 1) * rowsPerChunk));
+                    return accumulator;
+                })
+                .reduce(combiner)
+                .orElseGet(identity);
+    }
+
+    private void append(CardOperation operation) {
+        if (size == epochMillis.length) {
+            int capacity = epochMillis.length * 2;
+            epochMillis = Arrays.copyOf(epochMillis, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            types = Arrays.copyOf(types, capacity);
+            cardCodes = Arrays.copyOf(cardCodes, capacity);
+            locationCodes = Arrays.copyOf(locationCodes, capacity);
+            idHashes = Arrays.copyOf(idHashes, capacity);
+        }
+        epochMillis[size] = toEpochMillis(operation.date());
+        amounts[size] = operation.amount();
+        types[size] = (byte) operation.type().ordinal();
+        cardCodes[size] = cards.encode(operation.cardId());
+        locationCodes[size] = locations.encode(operation.location());
+        idHashes[size] = hashOf(operation.id());
+        size++;
+        if (size * 2 > rowSlots.length) {
+            rowSlots = new int[rowSlots.length * 2];
+            for (int row = 0; row < size; row++) {
+                indexRow(row);
+            }
+        } else {
+            indexRow(size - 1);
+        }
+    }
+
+    private void indexRow(int row) {
+        int mask = rowSlots.length - 1;
+        int slot = slotOf(idHashes[row], mask);
+        while (rowSlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        rowSlots[slot] = row + 1;
+    }
+
+    private int findLiveRow(CardOperation operation) {
+        int card = cards.lookup(operation.cardId());
+        int location = locations.lookup(operation.location());
+        if (card < 0 || location < 0) {
+            return -1;
+        }
+        long time = toEpochMillis(operation.date());
+        byte type = (byte) operation.type().ordinal();
+        long hash = hashOf(operation.id());
+        int mask = rowSlots.length - 1;
+        for (int slot = slotOf(hash, mask); rowSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = rowSlots[slot] - 1;
+            if (idHashes[row] == hash && types[row] == type && cardCodes[row] == card && epochMillis[row] == time
+                    && locationCodes[row] == location && amounts[row] == operation.amount()) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static int slotOf(long hash, int mask) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static long hashOf(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long toEpochMillis(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
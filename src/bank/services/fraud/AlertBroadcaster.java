@@ -0,0 +1,121 @@
+package bank.services.fraud;
+
+import bank.config.AppConfig;
+import bank.model.AlertFilter;
+import bank.model.FraudAlert;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AlertBroadcaster {
+
+    private record Registration(AlertFilter filter, SubmissionPublisher<FraudAlert> publisher) {}
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final ExecutorService deliveryExecutor;
+    private final int subscriberBuffer;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public AlertBroadcaster() {
+        this(AppConfig.getInt("bank.fraud.alerts.subscriberBuffer", 256));
+    }
+
+    public AlertBroadcaster(int subscriberBuffer) {
+        if (subscriberBuffer < 1) {
+            throw new IllegalArgumentException("Subscriber buffer must be positive: " + subscriberBuffer);
+        }
+        this.subscriberBuffer = subscriberBuffer;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.deliveryExecutor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "alert-delivery-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Flow.Publisher<FraudAlert> publisher(AlertFilter filter) {
+        return subscriber -> {
+            SubmissionPublisher<FraudAlert> publisher = new SubmissionPublisher<>(deliveryExecutor, subscriberBuffer);
+            Registration registration = new Registration(filter, publisher);
+            registrations.add(registration);
+            publisher.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                            unregister(registration);
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(FraudAlert alert) {
+                    subscriber.onNext(alert);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    unregister(registration);
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    unregister(registration);
+                    subscriber.onComplete();
+                }
+            });
+        };
+    }
+
+    public void publish(FraudAlert alert) {
+        for (Registration registration : registrations) {
+            SubmissionPublisher<FraudAlert> publisher = registration.publisher();
+            if (!publisher.hasSubscribers()) {
+                unregister(registration);
+                continue;
+            }
+            if (!registration.filter().matches(alert)) {
+                continue;
+            }
+            int lag = publisher.offer(alert, (subscriber, item) -> false);
+            if (lag < 0) {
+                dropped.increment();
+            } else {
+                delivered.increment();
+            }
+        }
+    }
+
+    private void unregister(Registration registration) {
+        if (registrations.remove(registration)) {
+            registration.publisher().close();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return registrations.size();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
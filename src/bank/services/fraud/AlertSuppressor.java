@@ -0,0 +1,82 @@
+package bank.services.fraud;
+
+import bank.config.AppConfig;
+import bank.model.enums.AlertLevelType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AlertSuppressor {
+
+    public record Decision(String alertId, boolean suppressed, boolean pending) {}
+
+    private record SuppressionKey(String cardId, String rule, AlertLevelType level) {}
+
+    private record OpenAlert(String alertId, long lastSeenNanos, boolean committed, int pendingOccurrences) {}
+
+    private final long quietPeriodNanos;
+    private final int maxTrackedKeys;
+    private final Map<SuppressionKey, OpenAlert> openAlerts = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public AlertSuppressor() {
+        this(AppConfig.getLong("bank.fraud.alerts.quietPeriodSeconds", 600),
+                AppConfig.getInt("bank.fraud.alerts.maxTrackedKeys", 10_000));
+    }
+
+    public AlertSuppressor(long quietPeriodSeconds, int maxTrackedKeys) {
+        if (quietPeriodSeconds < 0 || maxTrackedKeys < 1) {
+            throw new IllegalArgumentException("Invalid alert suppression settings");
+        }
+        this.quietPeriodNanos = TimeUnit.SECONDS.toNanos(quietPeriodSeconds);
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public Decision admit(String cardId, String rule, AlertLevelType level) {
+        long now = System.nanoTime();
+        if (openAlerts.size() >= maxTrackedKeys) {
+            openAlerts.values().removeIf(open -> open.committed() && now - open.lastSeenNanos() > quietPeriodNanos);
+        }
+        boolean[] reused = new boolean[1];
+        OpenAlert open = openAlerts.compute(new SuppressionKey(cardId, rule, level), (key, existing) -> {
+            if (existing != null && (!existing.committed() || now - existing.lastSeenNanos() <= quietPeriodNanos)) {
+                reused[0] = true;
+                int pendingOccurrences = existing.committed() ? 0 : existing.pendingOccurrences() + 1;
+                return new OpenAlert(existing.alertId(), now, existing.committed(), pendingOccurrences);
+            }
+            return new OpenAlert(UUID.randomUUID().toString(), now, false, 0);
+        });
+        if (reused[0]) {
+            suppressed.increment();
+        }
+        return new Decision(open.alertId(), reused[0], reused[0] && !open.committed());
+    }
+
+    public int confirm(String cardId, String rule, AlertLevelType level, String alertId) {
+        int[] merged = new int[1];
+        openAlerts.computeIfPresent(new SuppressionKey(cardId, rule, level), (key, existing) -> {
+            if (!existing.alertId().equals(alertId)) {
+                return existing;
+            }
+            merged[0] = existing.pendingOccurrences();
+            return new OpenAlert(alertId, existing.lastSeenNanos(), true, 0);
+        });
+        return merged[0];
+    }
+
+    public void forget(String cardId, String rule, AlertLevelType level, String alertId) {
+        openAlerts.computeIfPresent(new SuppressionKey(cardId, rule, level),
+                (key, existing) -> existing.alertId().equals(alertId) ? null : existing);
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public int getOpenAlertCount() {
+        return openAlerts.size();
+    }
+}
@@ -0,0 +1,161 @@
+package bank.services.fraud;
+
+import bank.model.CardOperation;
+import bank.model.enums.CardType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class CardActivityWindow {
+
+    public static final Duration DEFAULT_SHORT_WINDOW = Duration.ofMinutes(30);
+    public static final Duration DEFAULT_LONG_WINDOW = Duration.ofMinutes(60);
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long shortWindowMillis;
+    private final long longWindowMillis;
+    private long[] times = new long[INITIAL_CAPACITY];
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] locations = new String[INITIAL_CAPACITY];
+    private final Map<String, Integer> locationCounts = new HashMap<>();
+    private final Set<String> operationIds = new HashSet<>();
+    private long head;
+    private long shortHead;
+    private long tail;
+    private volatile CardType cardType;
+
+    public CardActivityWindow() {
+        this(DEFAULT_SHORT_WINDOW, DEFAULT_LONG_WINDOW);
+    }
+
+    public CardActivityWindow(Duration shortWindow, Duration longWindow) {
+        if (shortWindow.compareTo(longWindow) > 0) {
+            throw new IllegalArgumentException("Short window must not exceed long window");
+        }
+        this.shortWindowMillis = shortWindow.toMillis();
+        this.longWindowMillis = longWindow.toMillis();
+    }
+
+    public synchronized boolean record(CardOperation operation) {
+        if (operationIds.contains(operation.id())) {
+            return false;
+        }
+        long time = toMillis(operation.date());
+        if (tail > head && time < newestMillis()) {
+            if (time < newestMillis() - longWindowMillis) {
+                return false;
+            }
+            insertInOrder(time, operation.id(), operation.location());
+        } else {
+            ensureCapacity();
+            set(tail++, time, operation.id(), operation.location());
+        }
+        locationCounts.merge(operation.location(), 1, Integer::sum);
+        operationIds.add(operation.id());
+        evictBefore(newestMillis());
+        return true;
+    }
+
+    public synchronized int countInShortWindow() {
+        return (int) (tail - shortHead);
+    }
+
+    public synchronized int countInLongWindow() {
+        return (int) (tail - head);
+    }
+
+    public synchronized int distinctLocationsInLongWindow() {
+        return locationCounts.size();
+    }
+
+    public CardType getCardType() {
+        return cardType;
+    }
+
+    public void setCardType(CardType cardType) {
+        this.cardType = cardType;
+    }
+
+    public Duration getLongWindow() {
+        return Duration.ofMillis(longWindowMillis);
+    }
+
+    public synchronized boolean isIdleAt(LocalDateTime now) {
+        return tail == head || newestMillis() < toMillis(now) - longWindowMillis;
+    }
+
+    private void insertInOrder(long time, String id, String location) {
+        ensureCapacity();
+        long position = tail;
+        while (position > head && times[index(position - 1)] > time) {
+            int from = index(position - 1);
+            set(position, times[from], ids[from], locations[from]);
+            position--;
+        }
+        set(position, time, id, location);
+        tail++;
+        shortHead = head;
+    }
+
+    private void evictBefore(long newest) {
+        while (head < tail && times[index(head)] < newest - longWindowMillis) {
+            int slot = index(head);
+            locationCounts.computeIfPresent(locations[slot], (key, count) -> count == 1 ? null : count - 1);
+            operationIds.remove(ids[slot]);
+            ids[slot] = null;
+            locations[slot] = null;
+            head++;
+        }
+        shortHead = Math.max(shortHead, head);
+        while (shortHead < tail && times[index(shortHead)] < newest - shortWindowMillis) {
+            shortHead++;
+        }
+    }
+
+    private void ensureCapacity() {
+        int size = (int) (tail - head);
+        if (size < times.length) {
+            return;
+        }
+        long[] newTimes = new long[times.length * 2];
+        String[] newIds = new String[times.length * 2];
+        String[] newLocations = new String[times.length * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = index(head + i);
+            newTimes[i] = times[slot];
+            newIds[i] = ids[slot];
+            newLocations[i] = locations[slot];
+        }
+        shortHead -= head;
+        tail = size;
+        head = 0;
+        times = newTimes;
+        ids = newIds;
+        locations = newLocations;
+    }
+
+    private void set(long position, long time, String id, String location) {
+        int slot = index(position);
+        times[slot] = time;
+        ids[slot] = id;
+        locations[slot] = location;
+    }
+
+    private long newestMillis() {
+        return times[index(tail - 1)];
+    }
+
+    private int index(long position) {
+        return (int) (position & (times.length - 1));
+    }
+
+    private static long toMillis(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,12 @@
+package bank.services.fraud;
+
+public enum FraudFeature {
+    AMOUNT,
+    CARD_TYPE,
+    OPERATIONS_IN_SHORT_WINDOW,
+    DISTINCT_LOCATIONS_IN_LONG_WINDOW;
+
+    public boolean needsActivityWindow() {
+        return this == OPERATIONS_IN_SHORT_WINDOW || this == DISTINCT_LOCATIONS_IN_LONG_WINDOW;
+    }
+}
@@ -0,0 +1,53 @@
+package bank.services.fraud;
+
+import bank.model.CardOperation;
+import bank.model.enums.CardType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class FraudFeatures {
+
+    private final CardOperation operation;
+    private final Map<FraudFeature, Object> values;
+
+    private FraudFeatures(CardOperation operation, Map<FraudFeature, Object> values) {
+        this.operation = operation;
+        this.values = values;
+    }
+
+    public static FraudFeatures extract(Set<FraudFeature> required, CardOperation operation,
+                                        CardActivityWindow window, CardType cardType) {
+        Map<FraudFeature, Object> values = new EnumMap<>(FraudFeature.class);
+        for (FraudFeature feature : required) {
+            switch (feature) {
+                case AMOUNT -> values.put(feature, operation.amount());
+                case CARD_TYPE -> {
+                    if (cardType != null) {
+                        values.put(feature, cardType);
+                    }
+                }
+                case OPERATIONS_IN_SHORT_WINDOW -> values.put(feature, window.countInShortWindow());
+                case DISTINCT_LOCATIONS_IN_LONG_WINDOW -> values.put(feature, window.distinctLocationsInLongWindow());
+            }
+        }
+        return new FraudFeatures(operation, values);
+    }
+
+    public CardOperation operation() {
+        return operation;
+    }
+
+    public double number(FraudFeature feature) {
+        Object value = values.get(feature);
+        if (!(value instanceof Number number)) {
+            throw new IllegalStateException("Feature was not extracted: " + feature);
+        }
+        return number.doubleValue();
+    }
+
+    public CardType cardType() {
+        return (CardType) values.get(FraudFeature.CARD_TYPE);
+    }
+}
@@ -0,0 +1,10 @@
+package bank.services.fraud;
+
+import java.util.Optional;
+import java.util.Set;
+
+public interface FraudRule {
+    String name();
+    Set<FraudFeature> requiredFeatures();
+    Optional<FraudRuleHit> evaluate(FraudFeatures features, FraudRuleConfig config);
+}
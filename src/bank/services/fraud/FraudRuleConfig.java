@@ -0,0 +1,101 @@
+package bank.services.fraud;
+
+import bank.config.AppConfig;
+import bank.model.enums.CardType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+public class FraudRuleConfig {
+
+    private final Path path;
+    private final long checkIntervalNanos;
+    private volatile Properties properties = new Properties();
+    private volatile long nextCheckNanos;
+    private FileTime loadedModifiedTime;
+    private long reloadCount;
+
+    public FraudRuleConfig(Path path, long checkIntervalMillis) {
+        this.path = path;
+        this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkIntervalMillis);
+        load();
+    }
+
+    public static FraudRuleConfig fromConfig() {
+        return new FraudRuleConfig(
+                Paths.get(AppConfig.getString("bank.fraud.rules.file", "fraud-rules.properties")),
+                AppConfig.getLong("bank.fraud.rules.reloadCheckMillis", 1_000));
+    }
+
+    public void refreshIfChanged() {
+        if (System.nanoTime() - nextCheckNanos < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - nextCheckNanos >= 0) {
+                load();
+            }
+        }
+    }
+
+    public boolean isEnabled(String rule) {
+        return Boolean.parseBoolean(properties.getProperty(rule + ".enabled", "true"));
+    }
+
+    public double getDouble(String rule, String key, CardType cardType, double defaultValue) {
+        Properties current = properties;
+        String value = cardType == null ? null : current.getProperty(rule + "." + key + "." + cardType.name());
+        if (value == null) {
+            value = current.getProperty(rule + "." + key);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid fraud rule setting " + rule + "." + key + "=" + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public synchronized long getReloadCount() {
+        return reloadCount;
+    }
+
+    private synchronized void load() {
+        nextCheckNanos = System.nanoTime() + checkIntervalNanos;
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+            Properties loaded = new Properties();
+            try (InputStream in = Files.newInputStream(path)) {
+                loaded.load(in);
+            }
+            properties = loaded;
+            loadedModifiedTime = modifiedTime;
+            reloadCount++;
+        } catch (NoSuchFileException e) {
+            if (loadedModifiedTime != null) {
+                properties = new Properties();
+                loadedModifiedTime = null;
+                reloadCount++;
+            }
+        } catch (IOException e) {
+            System.out.println("Failed to load fraud rules from " + path + ": " + e.getMessage());
+        }
+    }
+}
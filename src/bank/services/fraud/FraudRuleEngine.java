@@ -0,0 +1,104 @@
+package bank.services.fraud;
+
+import bank.model.FraudRuleStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class FraudRuleEngine {
+
+    private static final class RuleCounters {
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    private final List<FraudRule> rules;
+    private final FraudRuleConfig config;
+    private final Set<FraudFeature> requiredFeatures;
+    private final Map<String, RuleCounters> counters = new LinkedHashMap<>();
+
+    public FraudRuleEngine(List<FraudRule> rules, FraudRuleConfig config) {
+        this.rules = List.copyOf(rules);
+        this.config = config;
+        Set<FraudFeature> features = EnumSet.noneOf(FraudFeature.class);
+        for (FraudRule rule : this.rules) {
+            if (counters.putIfAbsent(rule.name(), new RuleCounters()) != null) {
+                throw new IllegalArgumentException("Duplicate fraud rule name: " + rule.name());
+            }
+            features.addAll(rule.requiredFeatures());
+        }
+        this.requiredFeatures = Collections.unmodifiableSet(features);
+    }
+
+    public static FraudRuleEngine withDefaultRules(FraudRuleConfig config) {
+        return new FraudRuleEngine(defaultRules(), config);
+    }
+
+    public static List<FraudRule> defaultRules() {
+        List<FraudRule> rules = new ArrayList<>(List.of(
+                new LargeAmountRule(),
+                new FrequentOperationsRule(),
+                new MultipleLocationsRule()));
+        for (FraudRule rule : ServiceLoader.load(FraudRule.class)) {
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    public Set<FraudFeature> requiredFeatures() {
+        return requiredFeatures;
+    }
+
+    public boolean requires(FraudFeature feature) {
+        return requiredFeatures.contains(feature);
+    }
+
+    public List<FraudRuleHit> evaluate(FraudFeatures features) {
+        config.refreshIfChanged();
+        List<FraudRuleHit> hits = new ArrayList<>();
+        for (FraudRule rule : rules) {
+            if (!config.isEnabled(rule.name())) {
+                continue;
+            }
+            RuleCounters ruleCounters = counters.get(rule.name());
+            long start = System.nanoTime();
+            Optional<FraudRuleHit> hit;
+            try {
+                hit = rule.evaluate(features, config);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                ruleCounters.evaluations.increment();
+                ruleCounters.totalNanos.add(elapsed);
+                ruleCounters.maxNanos.accumulateAndGet(elapsed, Math::max);
+            }
+            if (hit.isPresent()) {
+                ruleCounters.hits.increment();
+                hits.add(hit.get());
+            }
+        }
+        return hits;
+    }
+
+    public List<FraudRuleStatistics> getStatistics() {
+        List<FraudRuleStatistics> statistics = new ArrayList<>(rules.size());
+        for (FraudRule rule : rules) {
+            RuleCounters ruleCounters = counters.get(rule.name());
+            long evaluations = ruleCounters.evaluations.sum();
+            double averageMicros = evaluations == 0 ? 0.0 : ruleCounters.totalNanos.sum() / 1_000.0 / evaluations;
+            statistics.add(new FraudRuleStatistics(rule.name(), config.isEnabled(rule.name()), evaluations,
+                    ruleCounters.hits.sum(), averageMicros, ruleCounters.maxNanos.get() / 1_000.0));
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,5 @@
+package bank.services.fraud;
+
+import bank.model.enums.AlertLevelType;
+
+public record FraudRuleHit(String rule, String description, AlertLevelType level) {}
@@ -0,0 +1,32 @@
+package bank.services.fraud;
+
+import bank.model.enums.AlertLevelType;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class FrequentOperationsRule implements FraudRule {
+
+    private static final double DEFAULT_MAX_OPERATIONS = 5;
+
+    @Override
+    public String name() {
+        return "frequentOperations";
+    }
+
+    @Override
+    public Set<FraudFeature> requiredFeatures() {
+        return Set.of(FraudFeature.OPERATIONS_IN_SHORT_WINDOW, FraudFeature.CARD_TYPE);
+    }
+
+    @Override
+    public Optional<FraudRuleHit> evaluate(FraudFeatures features, FraudRuleConfig config) {
+        double maxOperations = config.getDouble(name(), "maxOperations", features.cardType(), DEFAULT_MAX_OPERATIONS);
+        if (features.number(FraudFeature.OPERATIONS_IN_SHORT_WINDOW) < maxOperations) {
+            return Optional.empty();
+        }
+        return Optional.of(new FraudRuleHit(name(),
+                "Multiple operations in short time window",
+                AlertLevelType.CRITICAL));
+    }
+}
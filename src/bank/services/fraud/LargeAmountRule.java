@@ -0,0 +1,33 @@
+package bank.services.fraud;
+
+import bank.model.enums.AlertLevelType;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class LargeAmountRule implements FraudRule {
+
+    private static final double DEFAULT_THRESHOLD = 5000.0;
+
+    @Override
+    public String name() {
+        return "largeAmount";
+    }
+
+    @Override
+    public Set<FraudFeature> requiredFeatures() {
+        return Set.of(FraudFeature.AMOUNT, FraudFeature.CARD_TYPE);
+    }
+
+    @Override
+    public Optional<FraudRuleHit> evaluate(FraudFeatures features, FraudRuleConfig config) {
+        double threshold = config.getDouble(name(), "threshold", features.cardType(), DEFAULT_THRESHOLD);
+        double amount = features.number(FraudFeature.AMOUNT);
+        if (amount <= threshold) {
+            return Optional.empty();
+        }
+        return Optional.of(new FraudRuleHit(name(),
+                "Large amount transaction: " + features.operation().amount() + " at " + features.operation().location(),
+                AlertLevelType.WARNING));
+    }
+}
@@ -0,0 +1,32 @@
+package bank.services.fraud;
+
+import bank.model.enums.AlertLevelType;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class MultipleLocationsRule implements FraudRule {
+
+    private static final double DEFAULT_MAX_LOCATIONS = 1;
+
+    @Override
+    public String name() {
+        return "multipleLocations";
+    }
+
+    @Override
+    public Set<FraudFeature> requiredFeatures() {
+        return Set.of(FraudFeature.DISTINCT_LOCATIONS_IN_LONG_WINDOW, FraudFeature.CARD_TYPE);
+    }
+
+    @Override
+    public Optional<FraudRuleHit> evaluate(FraudFeatures features, FraudRuleConfig config) {
+        double maxLocations = config.getDouble(name(), "maxLocations", features.cardType(), DEFAULT_MAX_LOCATIONS);
+        if (features.number(FraudFeature.DISTINCT_LOCATIONS_IN_LONG_WINDOW) <= maxLocations) {
+            return Optional.empty();
+        }
+        return Optional.of(new FraudRuleHit(name(),
+                "Operations in different locations detected: " + features.operation().location(),
+                AlertLevelType.CRITICAL));
+    }
+}
@@ -1,11 +1,13 @@
 package bank.services.impl;
 
 import bank.dao.CardDAO;
+import bank.dao.OperationDAO;
 import bank.exception.DaoException;
 import bank.exception.ServiceException;
 import bank.model.*;
 import bank.model.enums.CardType;
 import bank.model.enums.Status;
+import bank.services.CardListener;
 import bank.services.CardService;
 
 import java.time.LocalDate;
@@ -13,13 +15,26 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CardServiceImplementation implements CardService {
 
     private final CardDAO cardDAO;
+    private final OperationDAO operationDAO;
+    private final CardSpendTracker spendTracker;
+    private final List<CardListener> listeners = new CopyOnWriteArrayList<>();
 
     public CardServiceImplementation(CardDAO cardDAO) {
+        this(cardDAO, null, null);
+    }
+
+    public CardServiceImplementation(CardDAO cardDAO, OperationDAO operationDAO, CardSpendTracker spendTracker) {
         this.cardDAO = cardDAO;
+        this.operationDAO = operationDAO;
+        this.spendTracker = spendTracker;
+        if (spendTracker != null) {
+            listeners.add(spendTracker);
+        }
     }
 
     @Override
@@ -36,7 +51,9 @@ public class CardServiceImplementation implements CardService {
                 case PREPAID -> new PrepaidCard(cardNumber, expirationDate, status, clientId, limit);
             };
 
-            return cardDAO.create(card);
+            Card created = cardDAO.create(card);
+            notifyCreated(created);
+            return created;
         } catch (DaoException e) {
             throw new ServiceException("Failed to create card: " + e.getMessage());
         }
@@ -50,9 +67,12 @@ public class CardServiceImplementation implements CardService {
                 throw new ServiceException("Card not found");
             }
 
+            if (!cardDAO.updateStatus(cardId, Status.ACTIVE)) {
+                throw new ServiceException("Card not found");
+            }
             Card card = optionalCard.get();
             card.activeCard();
-            cardDAO.updateStatus(cardId, Status.ACTIVE);
+            notifyUpdated(card);
             return card;
         } catch (DaoException e) {
             throw new ServiceException("Failed to activate card: " + e.getMessage());
@@ -67,9 +87,12 @@ public class CardServiceImplementation implements CardService {
                 throw new ServiceException("Card not found");
             }
 
+            if (!cardDAO.updateStatus(cardId, Status.SUSPENDED)) {
+                throw new ServiceException("Card not found");
+            }
             Card card = optionalCard.get();
             card.suspendCard();
-            cardDAO.updateStatus(cardId, Status.SUSPENDED);
+            notifyUpdated(card);
             return card;
         } catch (DaoException e) {
             throw new ServiceException("Failed to suspend card: " + e.getMessage());
@@ -84,9 +107,12 @@ public class CardServiceImplementation implements CardService {
                 throw new ServiceException("Card not found");
             }
 
+            if (!cardDAO.updateStatus(cardId, Status.BLOCKED)) {
+                throw new ServiceException("Card not found");
+            }
             Card card = optionalCard.get();
             card.blockCard();
-            cardDAO.updateStatus(cardId, Status.BLOCKED);
+            notifyUpdated(card);
             return card;
         } catch (DaoException e) {
             throw new ServiceException("Failed to block card: " + e.getMessage());
@@ -115,12 +141,32 @@ public class CardServiceImplementation implements CardService {
                         oldCard.getClientId(), ((PrepaidCard) oldCard).getBalance());
             };
 
-            return cardDAO.create(newCard);
+            Card created = cardDAO.create(newCard);
+            notifyCreated(created);
+            return created;
         } catch (DaoException e) {
             throw new ServiceException("Failed to renew card: " + e.getMessage());
         }
     }
 
+    @Override
+    public Card topUpCard(String cardId, double amount) throws ServiceException {
+        if (amount <= 0) {
+            throw new ServiceException("Top-up amount must be positive");
+        }
+        try {
+            if (!cardDAO.credit(cardId, amount)) {
+                throw new ServiceException("Card not found or not a prepaid card");
+            }
+            Card card = cardDAO.findById(cardId)
+                    .orElseThrow(() -> new ServiceException("Card not found"));
+            notifyUpdated(card);
+            return card;
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to top up card: " + e.getMessage());
+        }
+    }
+
     @Override
     public boolean verifyLimitBeforeOperation(String cardId, double amount) throws ServiceException {
         try {
@@ -135,7 +181,10 @@ public class CardServiceImplementation implements CardService {
                 return false;
             }
 
-            return card.isOperationAllowed(amount);
+            if (!card.isOperationAllowed(amount)) {
+                return false;
+            }
+            return spendTracker == null || spendTracker.isWithinLimits(cardId, card, amount);
         } catch (DaoException e) {
             throw new ServiceException("Failed to verify limit: " + e.getMessage());
         }
@@ -171,12 +220,58 @@ public class CardServiceImplementation implements CardService {
     @Override
     public boolean deleteCard(String cardId) throws ServiceException {
         try {
-            return cardDAO.delete(cardId);
+            Optional<Card> card = cardDAO.findById(cardId);
+            if (card.isEmpty()) {
+                return false;
+            }
+            List<CardOperation> operations = listeners.isEmpty() || operationDAO == null
+                    ? List.of()
+                    : operationDAO.findByCardId(cardId);
+            boolean deleted = cardDAO.delete(cardId);
+            if (deleted) {
+                notifyDeleted(card.get(), operations);
+            }
+            return deleted;
         } catch (DaoException e) {
             throw new ServiceException("Failed to delete card: " + e.getMessage());
         }
     }
 
+    @Override
+    public void addCardListener(CardListener listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyCreated(Card card) {
+        for (CardListener listener : listeners) {
+            try {
+                listener.onCardCreated(card);
+            } catch (RuntimeException e) {
+                System.out.println("Card listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void notifyUpdated(Card card) {
+        for (CardListener listener : listeners) {
+            try {
+                listener.onCardUpdated(card);
+            } catch (RuntimeException e) {
+                System.out.println("Card listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void notifyDeleted(Card card, List<CardOperation> operations) {
+        for (CardListener listener : listeners) {
+            try {
+                listener.onCardDeleted(card, operations);
+            } catch (RuntimeException e) {
+                System.out.println("Card listener failed: " + e.getMessage());
+            }
+        }
+    }
+
     private String generateCardNumber() {
         Random random = new Random();
         StringBuilder cardNumber = new StringBuilder();
@@ -0,0 +1,139 @@
+package bank.services.impl;
+
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CardUsageSnapshot;
+import bank.model.CreditCard;
+import bank.model.DebitCard;
+import bank.services.CardListener;
+import bank.services.OperationListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CardSpendTracker implements OperationListener, CardListener {
+
+    public record Spend(LocalDate day, double daySpend, double monthSpend) {
+
+        private Spend rollTo(LocalDate today) {
+            if (!today.isAfter(day)) {
+                return this;
+            }
+            boolean sameMonth = YearMonth.from(today).equals(YearMonth.from(day));
+            return new Spend(today, 0.0, sameMonth ? monthSpend : 0.0);
+        }
+
+        private Spend add(LocalDate date, double amount) {
+            double updatedDay = date.equals(day) ? Math.max(0.0, daySpend + amount) : daySpend;
+            double updatedMonth = YearMonth.from(date).equals(YearMonth.from(day)) ? Math.max(0.0, monthSpend + amount) : monthSpend;
+            return new Spend(day, updatedDay, updatedMonth);
+        }
+    }
+
+    private final OperationDAO operationDAO;
+    private final Clock clock;
+    private final Map<String, AtomicReference<Spend>> spendByCard = new ConcurrentHashMap<>();
+    private final Set<String> reservedOperationIds = ConcurrentHashMap.newKeySet();
+
+    public CardSpendTracker(OperationDAO operationDAO) {
+        this(operationDAO, Clock.systemDefaultZone());
+    }
+
+    public CardSpendTracker(OperationDAO operationDAO, Clock clock) {
+        this.operationDAO = operationDAO;
+        this.clock = clock;
+    }
+
+    public void rebuild() throws DaoException {
+        LocalDate today = LocalDate.now(clock);
+        List<CardUsageSnapshot> snapshots = operationDAO.aggregateUsageByCard(
+                today.withDayOfMonth(1).atStartOfDay(), today.atStartOfDay());
+        spendByCard.clear();
+        for (CardUsageSnapshot snapshot : snapshots) {
+            spendByCard.put(snapshot.cardId(), new AtomicReference<>(
+                    new Spend(today, snapshot.dayAmount(), snapshot.monthAmount())));
+        }
+    }
+
+    public boolean isWithinLimits(String cardId, Card card, double amount) {
+        Spend spend = spendOf(cardId);
+        return fits(spend, amount, dailyLimitOf(card), monthlyLimitOf(card));
+    }
+
+    public boolean tryReserve(CardOperation operation, Card card) {
+        double dailyLimit = dailyLimitOf(card);
+        double monthlyLimit = monthlyLimitOf(card);
+        LocalDate today = LocalDate.now(clock);
+        AtomicReference<Spend> reference = referenceOf(operation.cardId(), today);
+        while (true) {
+            Spend current = reference.get();
+            Spend rolled = current.rollTo(today);
+            if (!fits(rolled, operation.amount(), dailyLimit, monthlyLimit)) {
+                return false;
+            }
+            if (reference.compareAndSet(current, rolled.add(operation.date().toLocalDate(), operation.amount()))) {
+                reservedOperationIds.add(operation.id());
+                return true;
+            }
+        }
+    }
+
+    public void release(CardOperation operation) {
+        if (reservedOperationIds.remove(operation.id())) {
+            adjust(operation, -operation.amount());
+        }
+    }
+
+    public Spend spendOf(String cardId) {
+        LocalDate today = LocalDate.now(clock);
+        AtomicReference<Spend> reference = spendByCard.get(cardId);
+        return reference == null ? new Spend(today, 0.0, 0.0) : reference.get().rollTo(today);
+    }
+
+    @Override
+    public void onOperationRecorded(CardOperation operation, Card card) {
+        if (!reservedOperationIds.remove(operation.id())) {
+            adjust(operation, operation.amount());
+        }
+    }
+
+    @Override
+    public void onOperationDeleted(CardOperation operation, Card card) {
+        adjust(operation, -operation.amount());
+    }
+
+    @Override
+    public void onCardDeleted(Card card, List<CardOperation> operations) {
+        spendByCard.remove(card.getId());
+    }
+
+    private void adjust(CardOperation operation, double amount) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate date = operation.date().toLocalDate();
+        referenceOf(operation.cardId(), today).updateAndGet(spend -> spend.rollTo(today).add(date, amount));
+    }
+
+    private AtomicReference<Spend> referenceOf(String cardId, LocalDate today) {
+        return spendByCard.computeIfAbsent(cardId, id -> new AtomicReference<>(new Spend(today, 0.0, 0.0)));
+    }
+
+    private static boolean fits(Spend spend, double amount, double dailyLimit, double monthlyLimit) {
+        return spend.daySpend() + amount <= dailyLimit && spend.monthSpend() + amount <= monthlyLimit;
+    }
+
+    private static double dailyLimitOf(Card card) {
+        return card instanceof DebitCard debitCard ? debitCard.getDailyLimit() : Double.POSITIVE_INFINITY;
+    }
+
+    private static double monthlyLimitOf(Card card) {
+        return card instanceof CreditCard creditCard ? creditCard.getMonthlyLimit() : Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,207 @@
+package bank.services.impl;
+
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CardUsageSnapshot;
+import bank.model.enums.UsageWindow;
+import bank.services.CardListener;
+import bank.services.OperationListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class CardUsageTracker implements OperationListener, CardListener {
+
+    private record RankKey(long count, String cardId) {}
+
+    private static final Comparator<RankKey> MOST_USED_FIRST = Comparator.comparingLong(RankKey::count).reversed()
+            .thenComparing(RankKey::cardId);
+
+    private static final class Counters {
+        private long allTime;
+        private long month;
+        private long day;
+    }
+
+    private final OperationDAO operationDAO;
+    private final Clock clock;
+    private final Map<String, Counters> countersByCard = new HashMap<>();
+    private final Map<UsageWindow, NavigableSet<RankKey>> rankings = new EnumMap<>(UsageWindow.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private LocalDate currentDay;
+
+    public CardUsageTracker(OperationDAO operationDAO) {
+        this(operationDAO, Clock.systemDefaultZone());
+    }
+
+    public CardUsageTracker(OperationDAO operationDAO, Clock clock) {
+        this.operationDAO = operationDAO;
+        this.clock = clock;
+        for (UsageWindow window : UsageWindow.values()) {
+            rankings.put(window, new TreeSet<>(MOST_USED_FIRST));
+        }
+        this.currentDay = LocalDate.now(clock);
+    }
+
+    public void rebuild() throws DaoException {
+        LocalDate today = LocalDate.now(clock);
+        List<CardUsageSnapshot> snapshots = operationDAO.aggregateUsageByCard(
+                today.withDayOfMonth(1).atStartOfDay(), today.atStartOfDay());
+
+        lock.writeLock().lock();
+        try {
+            countersByCard.clear();
+            rankings.values().forEach(NavigableSet::clear);
+            currentDay = today;
+            for (CardUsageSnapshot snapshot : snapshots) {
+                Counters counters = countersByCard.computeIfAbsent(snapshot.cardId(), id -> new Counters());
+                counters.allTime = rank(UsageWindow.ALL_TIME, snapshot.cardId(), 0, snapshot.allTimeCount());
+                counters.month = rank(UsageWindow.MONTH, snapshot.cardId(), 0, snapshot.monthCount());
+                counters.day = rank(UsageWindow.DAY, snapshot.cardId(), 0, snapshot.dayCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onOperationRecorded(CardOperation operation, Card card) {
+        adjust(operation.cardId(), operation.date(), 1);
+    }
+
+    @Override
+    public void onOperationDeleted(CardOperation operation, Card card) {
+        adjust(operation.cardId(), operation.date(), -1);
+    }
+
+    @Override
+    public void onCardDeleted(Card card, List<CardOperation> operations) {
+        lock.writeLock().lock();
+        try {
+            Counters counters = countersByCard.remove(card.getId());
+            if (counters != null) {
+                rank(UsageWindow.ALL_TIME, card.getId(), counters.allTime, 0);
+                rank(UsageWindow.MONTH, card.getId(), counters.month, 0);
+                rank(UsageWindow.DAY, card.getId(), counters.day, 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<CardUsageSnapshot> topCards(UsageWindow window, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        rollIfStale(LocalDate.now(clock));
+
+        List<CardUsageSnapshot> top = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (RankKey key : rankings.get(window)) {
+                if (top.size() == limit) {
+                    break;
+                }
+                top.add(snapshotOf(key.cardId(), countersByCard.get(key.cardId())));
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public CardUsageSnapshot usageOf(String cardId) {
+        rollIfStale(LocalDate.now(clock));
+        lock.readLock().lock();
+        try {
+            Counters counters = countersByCard.get(cardId);
+            return counters == null ? new CardUsageSnapshot(cardId, 0, 0, 0) : snapshotOf(cardId, counters);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void adjust(String cardId, LocalDateTime date, long delta) {
+        LocalDate day = date.toLocalDate();
+        LocalDate today = LocalDate.now(clock);
+        lock.writeLock().lock();
+        try {
+            rollTo(today);
+            Counters counters = countersByCard.computeIfAbsent(cardId, id -> new Counters());
+            counters.allTime = rank(UsageWindow.ALL_TIME, cardId, counters.allTime, counters.allTime + delta);
+            if (YearMonth.from(day).equals(YearMonth.from(currentDay))) {
+                counters.month = rank(UsageWindow.MONTH, cardId, counters.month, counters.month + delta);
+            }
+            if (day.equals(currentDay)) {
+                counters.day = rank(UsageWindow.DAY, cardId, counters.day, counters.day + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rollIfStale(LocalDate today) {
+        lock.readLock().lock();
+        try {
+            if (!today.isAfter(currentDay)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            rollTo(today);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rollTo(LocalDate day) {
+        if (!day.isAfter(currentDay)) {
+            return;
+        }
+        boolean newMonth = !YearMonth.from(day).equals(YearMonth.from(currentDay));
+        for (Counters counters : countersByCard.values()) {
+            counters.day = 0;
+            if (newMonth) {
+                counters.month = 0;
+            }
+        }
+        rankings.get(UsageWindow.DAY).clear();
+        if (newMonth) {
+            rankings.get(UsageWindow.MONTH).clear();
+        }
+        currentDay = day;
+    }
+
+    private long rank(UsageWindow window, String cardId, long previous, long updated) {
+        long count = Math.max(0, updated);
+        NavigableSet<RankKey> ranking = rankings.get(window);
+        if (previous > 0) {
+            ranking.remove(new RankKey(previous, cardId));
+        }
+        if (count > 0) {
+            ranking.add(new RankKey(count, cardId));
+        }
+        return count;
+    }
+
+    private CardUsageSnapshot snapshotOf(String cardId, Counters counters) {
+        return new CardUsageSnapshot(cardId, counters.allTime, counters.month, counters.day);
+    }
+}
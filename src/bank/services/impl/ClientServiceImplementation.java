@@ -3,6 +3,8 @@ import bank.dao.ClientDAO;
 import bank.exception.DaoException;
 import bank.exception.ServiceException;
 import bank.model.Client;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.services.ClientService;
 
 import java.util.List;
@@ -98,4 +100,13 @@ public class ClientServiceImplementation implements ClientService {
             throw new ServiceException("Service error. " + e.getMessage());
         }
     }
+
+    @Override
+    public Page<Client> listClients(PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return clientDAO.findAll(cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Service error. " + e.getMessage());
+        }
+    }
 }
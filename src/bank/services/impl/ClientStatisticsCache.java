@@ -0,0 +1,128 @@
+package bank.services.impl;
+
+import bank.config.AppConfig;
+import bank.model.CacheStatistics;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.services.CardListener;
+import bank.services.OperationListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ClientStatisticsCache implements OperationListener, CardListener {
+
+    private record CachedStatistics(Map<String, Object> statistics, long expiresAtNanos) {}
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, CachedStatistics> statisticsByClient;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private long generation;
+
+    public ClientStatisticsCache() {
+        this(AppConfig.getInt("bank.cache.clientStats.maxSize", 500),
+                AppConfig.getLong("bank.cache.clientStats.ttlMillis", 300_000));
+    }
+
+    public ClientStatisticsCache(int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (ttlMillis < 1) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttlMillis);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.statisticsByClient = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatistics> eldest) {
+                if (size() > ClientStatisticsCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<Map<String, Object>> get(String clientId) {
+        synchronized (statisticsByClient) {
+            CachedStatistics cached = statisticsByClient.get(clientId);
+            if (cached != null) {
+                if (System.nanoTime() - cached.expiresAtNanos() < 0) {
+                    hits.incrementAndGet();
+                    return Optional.of(cached.statistics());
+                }
+                statisticsByClient.remove(clientId);
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public long currentGeneration() {
+        synchronized (statisticsByClient) {
+            return generation;
+        }
+    }
+
+    public void put(String clientId, Map<String, Object> statistics, long loadedGeneration) {
+        synchronized (statisticsByClient) {
+            if (generation == loadedGeneration) {
+                statisticsByClient.put(clientId, new CachedStatistics(statistics, System.nanoTime() + ttlNanos));
+            }
+        }
+    }
+
+    public void invalidate(String clientId) {
+        synchronized (statisticsByClient) {
+            generation++;
+            if (statisticsByClient.remove(clientId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void onOperationRecorded(CardOperation operation, Card card) {
+        if (card != null) {
+            invalidate(card.getClientId());
+        }
+    }
+
+    @Override
+    public void onOperationDeleted(CardOperation operation, Card card) {
+        if (card != null) {
+            invalidate(card.getClientId());
+        }
+    }
+
+    @Override
+    public void onCardCreated(Card card) {
+        invalidate(card.getClientId());
+    }
+
+    @Override
+    public void onCardUpdated(Card card) {
+        invalidate(card.getClientId());
+    }
+
+    @Override
+    public void onCardDeleted(Card card, List<CardOperation> operations) {
+        invalidate(card.getClientId());
+    }
+
+    public CacheStatistics getStatistics() {
+        synchronized (statisticsByClient) {
+            return new CacheStatistics("Client statistics", statisticsByClient.size(), maxSize,
+                    hits.get(), misses.get(), evictions.get(), invalidations.get());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package bank.services.impl;
+
+import bank.config.AppConfig;
+import bank.exception.ServiceException;
+import bank.model.CardOperation;
+import bank.model.FraudQueueStatistics;
+import bank.services.FraudAnalysisQueue;
+import bank.services.FraudService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class FraudAnalysisQueueImplementation implements FraudAnalysisQueue {
+
+    private record PendingAnalysis(CardOperation operation, long enqueuedAtNanos) {}
+
+    private final FraudService fraudService;
+    private final List<BlockingQueue<PendingAnalysis>> lanes;
+    private final List<Thread> workers;
+    private final int laneCapacity;
+    private final long offerTimeoutNanos;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private volatile boolean running = true;
+
+    public FraudAnalysisQueueImplementation(FraudService fraudService) {
+        this(fraudService,
+                AppConfig.getInt("bank.fraud.queue.workers", Math.max(2, Runtime.getRuntime().availableProcessors())),
+                AppConfig.getInt("bank.fraud.queue.laneCapacity", 1_000),
+                AppConfig.getLong("bank.fraud.queue.offerTimeoutMillis", 50));
+    }
+
+    public FraudAnalysisQueueImplementation(FraudService fraudService, int workerCount, int laneCapacity, long offerTimeoutMillis) {
+        if (workerCount < 1 || laneCapacity < 1 || offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid fraud queue settings");
+        }
+        this.fraudService = fraudService;
+        this.laneCapacity = laneCapacity;
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        this.lanes = new ArrayList<>(workerCount);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<PendingAnalysis> lane = new ArrayBlockingQueue<>(laneCapacity);
+            Thread worker = new Thread(() -> runWorker(lane), "fraud-analysis-" + i);
+            worker.setDaemon(true);
+            lanes.add(lane);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    @Override
+    public boolean submit(CardOperation operation) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        BlockingQueue<PendingAnalysis> lane = lanes.get(Math.floorMod(operation.cardId().hashCode(), lanes.size()));
+        try {
+            if (lane.offer(new PendingAnalysis(operation, System.nanoTime()), offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                submitted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        return false;
+    }
+
+    @Override
+    public FraudQueueStatistics getStatistics() {
+        int depth = 0;
+        long oldestEnqueuedAt = Long.MAX_VALUE;
+        for (BlockingQueue<PendingAnalysis> lane : lanes) {
+            depth += lane.size();
+            PendingAnalysis head = lane.peek();
+            if (head != null) {
+                oldestEnqueuedAt = Math.min(oldestEnqueuedAt, head.enqueuedAtNanos());
+            }
+        }
+        long oldestPendingNanos = oldestEnqueuedAt == Long.MAX_VALUE ? 0 : System.nanoTime() - oldestEnqueuedAt;
+        return new FraudQueueStatistics(
+                workers.size(),
+                depth,
+                laneCapacity * lanes.size(),
+                submitted.sum(),
+                processed.sum(),
+                dropped.sum(),
+                failed.sum(),
+                TimeUnit.NANOSECONDS.toMillis(oldestPendingNanos),
+                TimeUnit.NANOSECONDS.toMillis(lastLagNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runWorker(BlockingQueue<PendingAnalysis> lane) {
+        while (running || !lane.isEmpty()) {
+            try {
+                PendingAnalysis pending = lane.poll(100, TimeUnit.MILLISECONDS);
+                if (pending != null) {
+                    analyze(pending);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        }
+    }
+
+    private void analyze(PendingAnalysis pending) {
+        long lag = System.nanoTime() - pending.enqueuedAtNanos();
+        lastLagNanos.set(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        try {
+            fraudService.analyzeOperationInRealTime(pending.operation());
+        } catch (ServiceException | RuntimeException e) {
+            failed.increment();
+            System.out.println("Fraud analysis failed for operation " + pending.operation().id() + ": " + e.getMessage());
+        } finally {
+            processed.increment();
+        }
+    }
+}
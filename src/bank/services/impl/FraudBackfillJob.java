@@ -0,0 +1,238 @@
+package bank.services.impl;
+
+import bank.config.AppConfig;
+import bank.dao.AlertDAO;
+import bank.dao.CardDAO;
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.exception.ServiceException;
+import bank.exception.UncheckedDaoException;
+import bank.model.BatchResult;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.FraudAlert;
+import bank.model.FraudBackfillReport;
+import bank.model.enums.CardType;
+import bank.services.fraud.CardActivityWindow;
+import bank.services.fraud.FraudFeature;
+import bank.services.fraud.FraudFeatures;
+import bank.services.fraud.FraudRuleConfig;
+import bank.services.fraud.FraudRuleEngine;
+import bank.services.fraud.FraudRuleHit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class FraudBackfillJob {
+
+    private record CardPartition(String cardId, List<CardOperation> operations) {}
+
+    private record CardResult(String cardId, int operations, List<FraudAlert> alerts) {}
+
+    private final OperationDAO operationDAO;
+    private final CardDAO cardDAO;
+    private final AlertDAO alertDAO;
+    private final FraudRuleEngine ruleEngine;
+    private final Path checkpointPath;
+    private final int parallelism;
+    private final int cardsPerChunk;
+    private final Duration quietPeriod;
+
+    public FraudBackfillJob(OperationDAO operationDAO, CardDAO cardDAO, AlertDAO alertDAO) {
+        this(operationDAO, cardDAO, alertDAO,
+                FraudRuleEngine.withDefaultRules(FraudRuleConfig.fromConfig()),
+                Paths.get(AppConfig.getString("bank.fraud.backfill.checkpoint", "fraud-backfill.checkpoint")),
+                AppConfig.getInt("bank.fraud.backfill.parallelism", Runtime.getRuntime().availableProcessors()),
+                AppConfig.getInt("bank.fraud.backfill.cardsPerChunk", 256),
+                Duration.ofSeconds(AppConfig.getLong("bank.fraud.alerts.quietPeriodSeconds", 600)));
+    }
+
+    public FraudBackfillJob(OperationDAO operationDAO, CardDAO cardDAO, AlertDAO alertDAO, FraudRuleEngine ruleEngine,
+                            Path checkpointPath, int parallelism, int cardsPerChunk, Duration quietPeriod) {
+        if (parallelism < 1 || cardsPerChunk < 1 || quietPeriod.isNegative()) {
+            throw new IllegalArgumentException("Invalid backfill settings");
+        }
+        this.operationDAO = operationDAO;
+        this.cardDAO = cardDAO;
+        this.alertDAO = alertDAO;
+        this.ruleEngine = ruleEngine;
+        this.checkpointPath = checkpointPath;
+        this.parallelism = parallelism;
+        this.cardsPerChunk = cardsPerChunk;
+        this.quietPeriod = quietPeriod;
+    }
+
+    public FraudBackfillReport run(LocalDateTime startDate, LocalDateTime endDate, boolean resume) throws ServiceException {
+        String resumeAfter = resume ? readCheckpoint(startDate, endDate) : null;
+        if (!resume) {
+            deleteCheckpoint();
+        }
+
+        long startNanos = System.nanoTime();
+        long[] totals = new long[4];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (Stream<CardOperation> operations = operationDAO.streamOrderedByCard(resumeAfter, startDate, endDate)) {
+            Iterator<CardOperation> iterator = operations.iterator();
+            List<CardPartition> chunk = new ArrayList<>(cardsPerChunk);
+            String currentCard = null;
+            List<CardOperation> currentOperations = null;
+
+            while (iterator.hasNext()) {
+                CardOperation operation = iterator.next();
+                if (!operation.cardId().equals(currentCard)) {
+                    if (currentOperations != null) {
+                        chunk.add(new CardPartition(currentCard, currentOperations));
+                        if (chunk.size() == cardsPerChunk) {
+                            processChunk(pool, chunk, startDate, endDate, totals, startNanos);
+                            chunk = new ArrayList<>(cardsPerChunk);
+                        }
+                    }
+                    currentCard = operation.cardId();
+                    currentOperations = new ArrayList<>();
+                }
+                currentOperations.add(operation);
+            }
+            if (currentOperations != null) {
+                chunk.add(new CardPartition(currentCard, currentOperations));
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(pool, chunk, startDate, endDate, totals, startNanos);
+            }
+        } catch (DaoException e) {
+            throw new ServiceException("Fraud backfill failed: " + e.getMessage());
+        } catch (UncheckedDaoException e) {
+            throw new ServiceException("Fraud backfill failed: " + e.getCause().getMessage());
+        } finally {
+            pool.shutdown();
+        }
+
+        deleteCheckpoint();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new FraudBackfillReport(resumeAfter, totals[0], totals[1], totals[2], totals[3], elapsedMillis);
+    }
+
+    private void processChunk(ForkJoinPool pool, List<CardPartition> chunk, LocalDateTime startDate, LocalDateTime endDate,
+                              long[] totals, long startNanos) throws DaoException {
+        Map<String, CardType> cardTypes = cardTypesOf(chunk);
+        List<CardResult> results = pool.submit(() -> chunk.parallelStream()
+                .map(partition -> evaluate(partition, cardTypes.get(partition.cardId())))
+                .collect(Collectors.toList())).join();
+
+        List<FraudAlert> alerts = new ArrayList<>();
+        for (CardResult result : results) {
+            totals[1] += result.operations();
+            alerts.addAll(result.alerts());
+        }
+        BatchResult<FraudAlert> written = alertDAO.createAll(alerts);
+        totals[0] += results.size();
+        totals[2] += written.succeeded().size();
+        totals[3] += written.failures().size();
+        for (Map.Entry<Integer, String> failure : written.failures().entrySet()) {
+            System.out.println("Failed to write backfill alert for card " + alerts.get(failure.getKey()).cardId() + ": " + failure.getValue());
+        }
+
+        writeCheckpoint(startDate, endDate, chunk.get(chunk.size() - 1).cardId());
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        System.out.printf("Backfill progress: %d cards, %d operations, %d alerts (%.0f operations/s)%n",
+                totals[0], totals[1], totals[2], totals[1] * 1000.0 / elapsedMillis);
+    }
+
+    private Map<String, CardType> cardTypesOf(List<CardPartition> chunk) throws DaoException {
+        Map<String, CardType> cardTypes = new HashMap<>();
+        if (cardDAO == null || !ruleEngine.requires(FraudFeature.CARD_TYPE)) {
+            return cardTypes;
+        }
+        List<String> cardIds = new ArrayList<>(chunk.size());
+        for (CardPartition partition : chunk) {
+            cardIds.add(partition.cardId());
+        }
+        for (Map.Entry<String, Card> entry : cardDAO.findByIds(cardIds).entrySet()) {
+            cardTypes.put(entry.getKey(), entry.getValue().getCardType());
+        }
+        return cardTypes;
+    }
+
+    private CardResult evaluate(CardPartition partition, CardType cardType) {
+
+        CardActivityWindow window = new CardActivityWindow();
+        List<FraudAlert> alerts = new ArrayList<>();
+        Map<String, Integer> openAlertIndex = new HashMap<>();
+        Map<String, LocalDateTime> lastSeen = new HashMap<>();
+        for (CardOperation operation : partition.operations()) {
+            window.record(operation);
+            FraudFeatures features = FraudFeatures.extract(ruleEngine.requiredFeatures(), operation, window, cardType);
+            for (FraudRuleHit hit : ruleEngine.evaluate(features)) {
+                String key = hit.rule() + "|" + hit.level();
+                Integer index = openAlertIndex.get(key);
+                LocalDateTime previous = lastSeen.put(key, operation.date());
+                if (index != null && !operation.date().isAfter(previous.plus(quietPeriod))) {
+                    FraudAlert open = alerts.get(index);
+                    alerts.set(index, open.withOccurrences(open.occurrences() + 1));
+                } else {
+                    openAlertIndex.put(key, alerts.size());
+                    alerts.add(new FraudAlert(UUID.randomUUID().toString(), hit.description(), hit.level(), partition.cardId()));
+                }
+            }
+        }
+        return new CardResult(partition.cardId(), partition.operations().size(), alerts);
+    }
+
+    private String readCheckpoint(LocalDateTime startDate, LocalDateTime endDate) throws ServiceException {
+        if (!Files.exists(checkpointPath)) {
+            return null;
+        }
+        Properties checkpoint = new Properties();
+        try (InputStream in = Files.newInputStream(checkpointPath)) {
+            checkpoint.load(in);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to read backfill checkpoint: " + e.getMessage());
+        }
+        if (!startDate.toString().equals(checkpoint.getProperty("startDate"))
+                || !endDate.toString().equals(checkpoint.getProperty("endDate"))) {
+            System.out.println("Ignoring backfill checkpoint for a different date range.");
+            return null;
+        }
+        return checkpoint.getProperty("lastCardId");
+    }
+
+    private void writeCheckpoint(LocalDateTime startDate, LocalDateTime endDate, String lastCardId) {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("startDate", startDate.toString());
+        checkpoint.setProperty("endDate", endDate.toString());
+        checkpoint.setProperty("lastCardId", lastCardId);
+        Path temporary = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                checkpoint.store(out, "Fraud backfill checkpoint");
+            }
+            Files.move(temporary, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Failed to write backfill checkpoint: " + e.getMessage());
+        }
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(checkpointPath);
+        } catch (IOException e) {
+            System.out.println("Failed to delete backfill checkpoint: " + e.getMessage());
+        }
+    }
+}
@@ -1,87 +1,164 @@
 package bank.services.impl;
 
+import bank.config.AppConfig;
 import bank.dao.AlertDAO;
+import bank.dao.CardDAO;
 import bank.dao.OperationDAO;
 import bank.exception.DaoException;
 import bank.exception.ServiceException;
+import bank.model.AlertFilter;
+import bank.model.Card;
 import bank.model.CardOperation;
 import bank.model.FraudAlert;
+import bank.model.FraudRuleStatistics;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.AlertLevelType;
+import bank.model.enums.CardType;
 import bank.services.FraudService;
+import bank.services.fraud.AlertBroadcaster;
+import bank.services.fraud.AlertSuppressor;
+import bank.services.fraud.CardActivityWindow;
+import bank.services.fraud.FraudFeature;
+import bank.services.fraud.FraudFeatures;
+import bank.services.fraud.FraudRuleConfig;
+import bank.services.fraud.FraudRuleEngine;
+import bank.services.fraud.FraudRuleHit;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 
 public class FraudServiceImplementation implements FraudService {
 
     private final AlertDAO alertDAO;
     private final OperationDAO operationDAO;
-    private static final double LARGE_AMOUNT_THRESHOLD = 5000.0;
-    private static final int FREQUENT_OPS_TIME_WINDOW_MINUTES = 30;
-    private static final int MAX_OPS_IN_TIME_WINDOW = 5;
+    private final CardDAO cardDAO;
+    private final FraudRuleEngine ruleEngine;
+    private final AlertSuppressor alertSuppressor;
+    private final AlertBroadcaster alertBroadcaster = new AlertBroadcaster();
+
+    private final Map<String, CardActivityWindow> windowsByCard = new ConcurrentHashMap<>();
+    private final int maxTrackedCards;
 
     public FraudServiceImplementation(AlertDAO alertDAO, OperationDAO operationDAO) {
+        this(alertDAO, operationDAO, null);
+    }
+
+    public FraudServiceImplementation(AlertDAO alertDAO, OperationDAO operationDAO, CardDAO cardDAO) {
+        this(alertDAO, operationDAO, cardDAO, FraudRuleEngine.withDefaultRules(FraudRuleConfig.fromConfig()), new AlertSuppressor());
+    }
+
+    public FraudServiceImplementation(AlertDAO alertDAO, OperationDAO operationDAO, CardDAO cardDAO,
+                                      FraudRuleEngine ruleEngine, AlertSuppressor alertSuppressor) {
         this.alertDAO = alertDAO;
         this.operationDAO = operationDAO;
+        this.cardDAO = cardDAO;
+        this.ruleEngine = ruleEngine;
+        this.alertSuppressor = alertSuppressor;
+        this.maxTrackedCards = AppConfig.getInt("bank.fraud.maxTrackedCards", 10_000);
     }
 
     @Override
     public void analyzeOperationInRealTime(CardOperation operation) throws ServiceException {
         try {
-            if (detectLargeAmount(operation)) {
-                generateAlert(operation.cardId(),
-                    "Large amount transaction: " + operation.amount() + " at " + operation.location(),
-                    AlertLevelType.WARNING);
+            FraudFeatures features = extractFeatures(operation);
+            for (FraudRuleHit hit : ruleEngine.evaluate(features)) {
+                raiseAlert(operation.cardId(), hit);
             }
+        } catch (Exception e) {
+            throw new ServiceException("Failed to analyze operation: " + e.getMessage());
+        }
+    }
 
-            if (detectFrequentOperations(operation)) {
-                generateAlert(operation.cardId(),
-                    "Multiple operations in short time window",
-                    AlertLevelType.CRITICAL);
-            }
+    @Override
+    public List<FraudRuleStatistics> getRuleStatistics() {
+        return ruleEngine.getStatistics();
+    }
 
-            if (detectMultipleLocations(operation)) {
-                generateAlert(operation.cardId(),
-                    "Operations in different locations detected: " + operation.location(),
-                    AlertLevelType.CRITICAL);
-            }
+    @Override
+    public long getSuppressedAlertCount() {
+        return alertSuppressor.getSuppressedCount();
+    }
 
-        } catch (Exception e) {
-            throw new ServiceException("Failed to analyze operation: " + e.getMessage());
+    @Override
+    public Flow.Publisher<FraudAlert> alertFeed(AlertFilter filter) {
+        return alertBroadcaster.publisher(filter == null ? AlertFilter.all() : filter);
+    }
+
+    @Override
+    public long getDroppedAlertNotificationCount() {
+        return alertBroadcaster.getDroppedCount();
+    }
+
+    private void raiseAlert(String cardId, FraudRuleHit hit) throws DaoException {
+        AlertSuppressor.Decision decision = alertSuppressor.admit(cardId, hit.rule(), hit.level());
+        while (decision.suppressed() && !decision.pending()) {
+            if (alertDAO.incrementOccurrence(decision.alertId(), 1)) {
+                return;
+            }
+            alertSuppressor.forget(cardId, hit.rule(), hit.level(), decision.alertId());
+            decision = alertSuppressor.admit(cardId, hit.rule(), hit.level());
+        }
+        if (decision.pending()) {
+            return;
         }
+        FraudAlert alert;
+        try {
+            alert = alertDAO.create(new FraudAlert(decision.alertId(), hit.description(), hit.level(), cardId));
+        } catch (DaoException e) {
+            alertSuppressor.forget(cardId, hit.rule(), hit.level(), decision.alertId());
+            throw e;
+        }
+        int merged = alertSuppressor.confirm(cardId, hit.rule(), hit.level(), decision.alertId());
+        if (merged > 0) {
+            alertDAO.incrementOccurrence(decision.alertId(), merged);
+        }
+        alertBroadcaster.publish(alert);
     }
 
-    private boolean detectLargeAmount(CardOperation operation) {
-        return operation.amount() > LARGE_AMOUNT_THRESHOLD;
+    private FraudFeatures extractFeatures(CardOperation operation) throws DaoException {
+        boolean needsWindow = ruleEngine.requiredFeatures().stream().anyMatch(FraudFeature::needsActivityWindow);
+        if (!needsWindow) {
+            return FraudFeatures.extract(ruleEngine.requiredFeatures(), operation, null, cardTypeOf(operation.cardId()));
+        }
+
+        CardActivityWindow window = windowFor(operation);
+        synchronized (window) {
+            window.record(operation);
+            return FraudFeatures.extract(ruleEngine.requiredFeatures(), operation, window, window.getCardType());
+        }
     }
 
-    private boolean detectFrequentOperations(CardOperation operation) throws DaoException {
-        LocalDateTime windowStart = operation.date().minus(FREQUENT_OPS_TIME_WINDOW_MINUTES, ChronoUnit.MINUTES);
-        List<CardOperation> recentOps = operationDAO.findByCardIdAndDateRange(
-            operation.cardId(),
-            windowStart,
-            operation.date()
-        );
-        return recentOps.size() >= MAX_OPS_IN_TIME_WINDOW;
+    private CardType cardTypeOf(String cardId) throws DaoException {
+        if (cardDAO == null || !ruleEngine.requires(FraudFeature.CARD_TYPE)) {
+            return null;
+        }
+        return cardDAO.findById(cardId).map(Card::getCardType).orElse(null);
     }
 
-    private boolean detectMultipleLocations(CardOperation operation) throws DaoException {
-        LocalDateTime windowStart = operation.date().minus(60, ChronoUnit.MINUTES);
-        List<CardOperation> recentOps = operationDAO.findByCardIdAndDateRange(
-            operation.cardId(),
-            windowStart,
-            operation.date()
-        );
+    private CardActivityWindow windowFor(CardOperation operation) throws DaoException {
+        CardActivityWindow window = windowsByCard.get(operation.cardId());
+        if (window != null) {
+            return window;
+        }
 
-        Set<String> locations = recentOps.stream()
-            .map(CardOperation::location)
-            .collect(Collectors.toSet());
+        CardActivityWindow hydrated = new CardActivityWindow();
+        hydrated.setCardType(cardTypeOf(operation.cardId()));
+        LocalDateTime windowStart = operation.date().minus(hydrated.getLongWindow());
+        for (CardOperation recent : operationDAO.findByCardIdAndDateRange(operation.cardId(), windowStart, operation.date())) {
+            hydrated.record(recent);
+        }
 
-        return locations.size() > 1;
+        if (windowsByCard.size() >= maxTrackedCards) {
+            windowsByCard.values().removeIf(idle -> idle.isIdleAt(operation.date()));
+        }
+        CardActivityWindow existing = windowsByCard.putIfAbsent(operation.cardId(), hydrated);
+        return existing != null ? existing : hydrated;
     }
 
     @Override
@@ -93,6 +170,15 @@ public class FraudServiceImplementation implements FraudService {
         }
     }
 
+    @Override
+    public Map<String, List<FraudAlert>> getAlertsByCards(Collection<String> cardIds) throws ServiceException {
+        try {
+            return alertDAO.findByCardIds(cardIds);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get alerts: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<FraudAlert> getCriticalAlerts() throws ServiceException {
         try {
@@ -111,12 +197,23 @@ public class FraudServiceImplementation implements FraudService {
         }
     }
 
+    @Override
+    public Page<FraudAlert> getAlerts(PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return alertDAO.findAll(cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get alerts: " + e.getMessage());
+        }
+    }
+
     @Override
     public FraudAlert generateAlert(String cardId, String description, AlertLevelType level) throws ServiceException {
         try {
             String alertId = UUID.randomUUID().toString();
             FraudAlert alert = new FraudAlert(alertId, description, level, cardId);
-            return alertDAO.create(alert);
+            FraudAlert created = alertDAO.create(alert);
+            alertBroadcaster.publish(created);
+            return created;
         } catch (DaoException e) {
             throw new ServiceException("Failed to generate alert: " + e.getMessage());
         }
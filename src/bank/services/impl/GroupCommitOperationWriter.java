@@ -0,0 +1,162 @@
+package bank.services.impl;
+
+import bank.config.AppConfig;
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.BatchResult;
+import bank.model.CardOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GroupCommitOperationWriter implements AutoCloseable {
+
+    private record PendingWrite(CardOperation operation, CompletableFuture<CardOperation> result) {}
+
+    private final OperationDAO operationDAO;
+    private final int maxBatchRows;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread flusher;
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private volatile boolean running = true;
+
+    public GroupCommitOperationWriter(OperationDAO operationDAO) {
+        this(operationDAO,
+                AppConfig.getInt("bank.operations.groupCommit.maxRows", 64),
+                AppConfig.getLong("bank.operations.groupCommit.maxWaitMicros", 300),
+                AppConfig.getInt("bank.operations.groupCommit.queueCapacity", 10_000));
+    }
+
+    public GroupCommitOperationWriter(OperationDAO operationDAO, int maxBatchRows, long maxWaitMicros, int queueCapacity) {
+        if (maxBatchRows < 1 || maxWaitMicros < 0 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid group commit settings");
+        }
+        this.operationDAO = operationDAO;
+        this.maxBatchRows = maxBatchRows;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.flusher = new Thread(this::runFlusher, "operation-group-commit");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public CompletableFuture<CardOperation> submit(CardOperation operation) {
+        CompletableFuture<CardOperation> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new DaoException("Operation writer is shut down"));
+            return result;
+        }
+        PendingWrite pending = new PendingWrite(operation, result);
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(new DaoException("Interrupted while queueing operation"));
+            return result;
+        }
+        if (!running && queue.remove(pending)) {
+            result.completeExceptionally(new DaoException("Operation writer is shut down"));
+        }
+        return result;
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runFlusher() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchRows);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                running = false;
+                fail(batch, new DaoException("Operation writer was interrupted"));
+            } finally {
+                batch.clear();
+            }
+        }
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        fail(abandoned, new DaoException("Operation writer is shut down"));
+    }
+
+    private static void fail(List<PendingWrite> pendingWrites, Exception cause) {
+        for (PendingWrite pending : pendingWrites) {
+            pending.result().completeExceptionally(cause);
+        }
+    }
+
+    private void collectBatch(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchRows) {
+            if (queue.drainTo(batch, maxBatchRows - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<CardOperation> operations = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            operations.add(pending.operation());
+        }
+
+        try {
+            BatchResult<CardOperation> result = operationDAO.createAll(operations);
+            flushes.increment();
+            rowsWritten.add(result.succeeded().size());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingWrite pending = batch.get(i);
+                String failure = result.failures().get(i);
+                if (failure == null) {
+                    pending.result().complete(pending.operation());
+                } else {
+                    pending.result().completeExceptionally(new DaoException("Failed to create operation: " + failure));
+                }
+            }
+        } catch (DaoException | RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+}
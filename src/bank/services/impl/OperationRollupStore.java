@@ -0,0 +1,142 @@
+package bank.services.impl;
+
+import bank.dao.OperationDAO;
+import bank.exception.DaoException;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.OperationRollup;
+import bank.model.enums.CardType;
+import bank.model.enums.OperationType;
+import bank.model.enums.RollupGranularity;
+import bank.services.CardListener;
+import bank.services.OperationListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class OperationRollupStore implements OperationListener, CardListener {
+
+    private record RollupKey(OperationType type, CardType cardType) {}
+
+    private static final class Totals {
+        private long count;
+        private double amount;
+    }
+
+    private final OperationDAO operationDAO;
+    private final Map<RollupGranularity, NavigableMap<LocalDateTime, Map<RollupKey, Totals>>> buckets = new EnumMap<>(RollupGranularity.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OperationRollupStore(OperationDAO operationDAO) {
+        this.operationDAO = operationDAO;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            buckets.put(granularity, new TreeMap<>());
+        }
+    }
+
+    public void rebuild() throws DaoException {
+        List<OperationRollup> hourly = operationDAO.aggregateRollups(RollupGranularity.HOUR, null, null);
+
+        lock.writeLock().lock();
+        try {
+            buckets.values().forEach(Map::clear);
+            for (OperationRollup rollup : hourly) {
+                add(rollup.bucketStart(), new RollupKey(rollup.type(), rollup.cardType()), rollup.operationCount(), rollup.totalAmount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onOperationRecorded(CardOperation operation, Card card) {
+        lock.writeLock().lock();
+        try {
+            add(operation.date(), keyOf(operation, card), 1, operation.amount());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onOperationDeleted(CardOperation operation, Card card) {
+        lock.writeLock().lock();
+        try {
+            add(operation.date(), keyOf(operation, card), -1, -operation.amount());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCardDeleted(Card card, List<CardOperation> operations) {
+        lock.writeLock().lock();
+        try {
+            for (CardOperation operation : operations) {
+                add(operation.date(), keyOf(operation, card), -1, -operation.amount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<OperationRollup> query(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) {
+        List<OperationRollup> rollups = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return rollups;
+        }
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<LocalDateTime, Map<RollupKey, Totals>> bucket
+                    : buckets.get(granularity).subMap(granularity.bucketOf(startDate), true, endDate, true).entrySet()) {
+                for (Map.Entry<RollupKey, Totals> entry : bucket.getValue().entrySet()) {
+                    Totals totals = entry.getValue();
+                    rollups.add(new OperationRollup(bucket.getKey(), entry.getKey().type(), entry.getKey().cardType(), totals.count, totals.amount));
+                }
+            }
+            return rollups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<OperationType, Long> countByType(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<OperationType, Long> counts = new EnumMap<>(OperationType.class);
+        for (OperationType type : OperationType.values()) {
+            counts.put(type, 0L);
+        }
+        for (OperationRollup rollup : query(granularity, startDate, endDate)) {
+            counts.merge(rollup.type(), rollup.operationCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    private RollupKey keyOf(CardOperation operation, Card card) {
+        return new RollupKey(operation.type(), card == null ? null : card.getCardType());
+    }
+
+    private void add(LocalDateTime date, RollupKey key, long count, double amount) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            NavigableMap<LocalDateTime, Map<RollupKey, Totals>> series = buckets.get(granularity);
+            LocalDateTime bucketStart = granularity.bucketOf(date);
+            Map<RollupKey, Totals> bucket = series.computeIfAbsent(bucketStart, start -> new HashMap<>());
+            Totals totals = bucket.computeIfAbsent(key, k -> new Totals());
+            totals.count += count;
+            totals.amount += amount;
+            if (totals.count <= 0) {
+                bucket.remove(key);
+                if (bucket.isEmpty()) {
+                    series.remove(bucketStart);
+                }
+            }
+        }
+    }
+}
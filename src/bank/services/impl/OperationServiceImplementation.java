@@ -1,29 +1,64 @@
 package bank.services.impl;
 
+import bank.config.AppConfig;
 import bank.dao.CardDAO;
 import bank.dao.OperationDAO;
 import bank.exception.DaoException;
 import bank.exception.ServiceException;
+import bank.model.BatchResult;
 import bank.model.Card;
 import bank.model.CardOperation;
+import bank.model.Page;
+import bank.model.PageCursor;
+import bank.model.enums.CardType;
 import bank.model.enums.OperationType;
 import bank.model.enums.Status;
+import bank.services.OperationListener;
 import bank.services.OperationService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 public class OperationServiceImplementation implements OperationService {
 
     private final OperationDAO operationDAO;
     private final CardDAO cardDAO;
+    private final GroupCommitOperationWriter operationWriter;
+    private final CardSpendTracker spendTracker;
+    private final long commitTimeoutMillis = AppConfig.getLong("bank.operations.groupCommit.commitTimeoutMs", 30_000);
+    private final List<OperationListener> listeners = new CopyOnWriteArrayList<>();
 
     public OperationServiceImplementation(OperationDAO operationDAO, CardDAO cardDAO) {
+        this(operationDAO, cardDAO, null);
+    }
+
+    public OperationServiceImplementation(OperationDAO operationDAO, CardDAO cardDAO, GroupCommitOperationWriter operationWriter) {
+        this(operationDAO, cardDAO, operationWriter, null);
+    }
+
+    public OperationServiceImplementation(OperationDAO operationDAO, CardDAO cardDAO, GroupCommitOperationWriter operationWriter,
+                                          CardSpendTracker spendTracker) {
         this.operationDAO = operationDAO;
         this.cardDAO = cardDAO;
+        this.operationWriter = operationWriter;
+        this.spendTracker = spendTracker;
+        if (spendTracker != null) {
+            listeners.add(spendTracker);
+        }
     }
 
     @Override
@@ -62,13 +97,193 @@ public class OperationServiceImplementation implements OperationService {
             LocalDateTime operationDate = LocalDateTime.now();
 
             CardOperation operation = new CardOperation(operationId, operationDate, amount, type, location, cardId);
-            return operationDAO.create(operation);
+            if (spendTracker != null && !spendTracker.tryReserve(operation, card)) {
+                throw new ServiceException("Operation exceeds cumulative card limit");
+            }
+            CardOperation recorded;
+            boolean persisted = false;
+            try {
+                recorded = persist(operation, card);
+                persisted = true;
+            } finally {
+                if (!persisted && spendTracker != null) {
+                    spendTracker.release(operation);
+                }
+            }
+            notifyRecorded(recorded, card);
+            return recorded;
 
         } catch (DaoException e) {
             throw new ServiceException("Failed to record operation: " + e.getMessage());
         }
     }
 
+    private CardOperation persist(CardOperation operation, Card card) throws DaoException, ServiceException {
+        if (card.getCardType() != CardType.PREPAID) {
+            return persistOperation(operation);
+        }
+        if (!cardDAO.debitAndRecord(operation)) {
+            throw new ServiceException("Insufficient balance or card not active");
+        }
+        return operation;
+    }
+
+    private CardOperation persistOperation(CardOperation operation) throws DaoException {
+        if (operationWriter == null) {
+            return operationDAO.create(operation);
+        }
+        try {
+            return operationWriter.submit(operation).get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoException("Interrupted while waiting for operation commit");
+        } catch (TimeoutException e) {
+            throw new DaoException("Timed out after " + commitTimeoutMillis + " ms waiting for operation commit");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new DaoException(cause.getMessage());
+        }
+    }
+
+    @Override
+    public BatchResult<CardOperation> recordOperations(Collection<CardOperation> operations) throws ServiceException {
+        List<CardOperation> input = new ArrayList<>(operations);
+        List<CardOperation> valid = new ArrayList<>(input.size());
+        List<Integer> validPositions = new ArrayList<>(input.size());
+        Map<Integer, String> failures = new TreeMap<>();
+        Map<String, CardOperation> reserved = new LinkedHashMap<>();
+        List<CardOperation> recorded = new ArrayList<>(input.size());
+
+        try {
+            Set<String> cardIds = input.stream()
+                    .map(CardOperation::cardId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<String, Card> cardsById = cardDAO.findByIds(cardIds);
+
+            for (int i = 0; i < input.size(); i++) {
+                CardOperation operation = input.get(i);
+                Card card = cardsById.get(operation.cardId());
+                String problem = validateOperation(operation, card);
+                if (problem == null && spendTracker != null) {
+                    problem = reserve(operation, card, reserved);
+                }
+                if (problem != null) {
+                    failures.put(i, problem);
+                } else if (card.getCardType() == CardType.PREPAID) {
+                    problem = debitAndRecord(operation);
+                    if (problem == null) {
+                        recorded.add(operation);
+                    } else {
+                        failures.put(i, problem);
+                    }
+                } else {
+                    valid.add(operation);
+                    validPositions.add(i);
+                }
+            }
+
+            BatchResult<CardOperation> result = operationDAO.createAll(valid);
+            for (Map.Entry<Integer, String> failure : result.failures().entrySet()) {
+                failures.put(validPositions.get(failure.getKey()), failure.getValue());
+            }
+            recorded.addAll(result.succeeded());
+            for (CardOperation operation : recorded) {
+                notifyRecorded(operation, cardsById.get(operation.cardId()));
+            }
+            return new BatchResult<>(recorded, failures);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to record operations: " + e.getMessage());
+        } finally {
+            releaseUnrecorded(reserved, recorded);
+        }
+    }
+
+    private String reserve(CardOperation operation, Card card, Map<String, CardOperation> reserved) {
+        if (reserved.containsKey(operation.id())) {
+            return "Duplicate operation id " + operation.id();
+        }
+        if (!spendTracker.tryReserve(operation, card)) {
+            return "Operation exceeds cumulative card limit";
+        }
+        reserved.put(operation.id(), operation);
+        return null;
+    }
+
+    private void releaseUnrecorded(Map<String, CardOperation> reserved, List<CardOperation> recorded) {
+        if (reserved.isEmpty()) {
+            return;
+        }
+        Map<String, CardOperation> unrecorded = new LinkedHashMap<>(reserved);
+        for (CardOperation operation : recorded) {
+            unrecorded.remove(operation.id());
+        }
+        for (CardOperation operation : unrecorded.values()) {
+            spendTracker.release(operation);
+        }
+    }
+
+    private String debitAndRecord(CardOperation operation) {
+        try {
+            return cardDAO.debitAndRecord(operation) ? null : "Insufficient balance or card not active";
+        } catch (DaoException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Override
+    public void addOperationListener(OperationListener listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyRecorded(CardOperation operation, Card card) {
+        for (OperationListener listener : listeners) {
+            try {
+                listener.onOperationRecorded(operation, card);
+            } catch (RuntimeException e) {
+                System.out.println("Operation listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void notifyDeleted(CardOperation operation, Card card) {
+        for (OperationListener listener : listeners) {
+            try {
+                listener.onOperationDeleted(operation, card);
+            } catch (RuntimeException e) {
+                System.out.println("Operation listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private String validateOperation(CardOperation operation, Card card) {
+        if (operation.id() == null || operation.id().isBlank()) {
+            return "Missing operation id";
+        }
+        if (operation.cardId() == null || operation.cardId().isBlank()) {
+            return "Missing card id";
+        }
+        if (operation.date() == null) {
+            return "Missing operation date";
+        }
+        if (operation.type() == null) {
+            return "Missing operation type";
+        }
+        if (operation.amount() <= 0) {
+            return "Amount must be positive";
+        }
+        if (card == null) {
+            return "Card not found";
+        }
+        if (card.getStatus() != Status.ACTIVE) {
+            return "Card is not active. Status: " + card.getStatus();
+        }
+        if (!card.isOperationAllowed(operation.amount())) {
+            return "Operation amount exceeds card limit";
+        }
+        return null;
+    }
+
     @Override
     public List<CardOperation> getOperationsByCard(String cardId) throws ServiceException {
         try {
@@ -78,24 +293,51 @@ public class OperationServiceImplementation implements OperationService {
         }
     }
 
+    @Override
+    public Map<String, List<CardOperation>> getOperationsByCards(Collection<String> cardIds) throws ServiceException {
+        try {
+            return operationDAO.findByCardIds(cardIds);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get operations: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<CardOperation> getOperationsByClient(String clientId) throws ServiceException {
         try {
-            List<Card> clientCards = cardDAO.findByClientId(clientId);
-            return clientCards.stream()
-                    .flatMap(card -> {
-                        try {
-                            return operationDAO.findByCardId(card.getId()).stream();
-                        } catch (DaoException e) {
-                            return java.util.stream.Stream.empty();
-                        }
-                    })
-                    .collect(Collectors.toList());
+            return operationDAO.findByClientId(clientId);
         } catch (DaoException e) {
             throw new ServiceException("Failed to get operations by client: " + e.getMessage());
         }
     }
 
+    @Override
+    public Page<CardOperation> getClientTimeline(String clientId, PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return operationDAO.findByClientId(clientId, cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get client timeline: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<CardOperation> browseOperations(PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return operationDAO.findAll(cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to browse operations: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<CardOperation> browseOperationsByType(OperationType type, PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return operationDAO.findByType(type, cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to browse operations by type: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<CardOperation> filterOperationsByType(String cardId, OperationType type) throws ServiceException {
         try {
@@ -126,7 +368,18 @@ public class OperationServiceImplementation implements OperationService {
     @Override
     public boolean deleteOperation(String operationId) throws ServiceException {
         try {
-            return operationDAO.delete(operationId);
+            Optional<CardOperation> operation = operationDAO.findById(operationId);
+            if (operation.isEmpty()) {
+                return false;
+            }
+            Card card = cardDAO.findById(operation.get().cardId()).orElse(null);
+            boolean deleted = card != null && card.getCardType() == CardType.PREPAID
+                    ? cardDAO.deleteAndCredit(operation.get())
+                    : operationDAO.delete(operationId);
+            if (deleted) {
+                notifyDeleted(operation.get(), card);
+            }
+            return deleted;
         } catch (DaoException e) {
             throw new ServiceException("Failed to delete operation: " + e.getMessage());
         }
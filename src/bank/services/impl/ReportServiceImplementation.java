@@ -1,77 +1,206 @@
 package bank.services.impl;
 
+import bank.config.AppConfig;
+import bank.config.QueryDeadline;
 import bank.dao.AlertDAO;
 import bank.dao.CardDAO;
 import bank.dao.OperationDAO;
+import bank.dao.impl.CachingCardDAOImplementation;
 import bank.exception.DaoException;
 import bank.exception.ServiceException;
+import bank.model.CacheStatistics;
 import bank.model.Card;
 import bank.model.CardOperation;
+import bank.model.CardUsage;
+import bank.model.CardUsageSnapshot;
+import bank.model.DashboardSnapshot;
 import bank.model.FraudAlert;
+import bank.model.OperationRollup;
+import bank.model.Page;
+import bank.model.PageCursor;
 import bank.model.enums.AlertLevelType;
+import bank.model.enums.OperationType;
+import bank.model.enums.RollupGranularity;
 import bank.model.enums.Status;
+import bank.model.enums.UsageWindow;
 import bank.services.ReportService;
+import bank.services.analytics.OperationColumnStore;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class ReportServiceImplementation implements ReportService {
 
+    private static final int TOP_CARDS = 5;
+
     private final CardDAO cardDAO;
     private final OperationDAO operationDAO;
     private final AlertDAO alertDAO;
+    private final CardUsageTracker usageTracker;
+    private final OperationRollupStore rollupStore;
+    private final OperationColumnStore columnStore;
+    private final ClientStatisticsCache clientStatisticsCache;
+    private final ExecutorService dashboardExecutor;
+    private final long dashboardTimeoutNanos;
+    private final long dashboardFreshnessNanos;
+    private final Object dashboardLock = new Object();
+    private DashboardSnapshot cachedDashboard;
+    private long cachedDashboardAtNanos;
 
     public ReportServiceImplementation(CardDAO cardDAO, OperationDAO operationDAO, AlertDAO alertDAO) {
+        this(cardDAO, operationDAO, alertDAO, null, null, null, null);
+    }
+
+    public ReportServiceImplementation(CardDAO cardDAO, OperationDAO operationDAO, AlertDAO alertDAO,
+                                       CardUsageTracker usageTracker, OperationRollupStore rollupStore,
+                                       OperationColumnStore columnStore, ClientStatisticsCache clientStatisticsCache) {
         this.cardDAO = cardDAO;
         this.operationDAO = operationDAO;
         this.alertDAO = alertDAO;
+        this.usageTracker = usageTracker;
+        this.rollupStore = rollupStore;
+        this.columnStore = columnStore;
+        this.clientStatisticsCache = clientStatisticsCache;
+        this.dashboardTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(AppConfig.getLong("bank.reports.dashboard.timeoutMillis", 5000));
+        this.dashboardFreshnessNanos = TimeUnit.MILLISECONDS.toNanos(AppConfig.getLong("bank.reports.dashboard.freshnessMillis", 30_000));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dashboardExecutor = Executors.newFixedThreadPool(AppConfig.getInt("bank.reports.dashboard.threads", 5), task -> {
+            Thread thread = new Thread(task, "dashboard-report-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public List<Card> getTop5MostUsedCards() throws ServiceException {
         try {
-            List<Card> allCards = cardDAO.findAll();
-
-            return allCards.stream()
-                .sorted((card1, card2) -> {
-                    try {
-                        int ops1 = operationDAO.findByCardId(card1.getId()).size();
-                        int ops2 = operationDAO.findByCardId(card2.getId()).size();
-                        return Integer.compare(ops2, ops1);
-                    } catch (DaoException e) {
-                        return 0;
-                    }
-                })
-                .limit(5)
+            List<String> topCardIds = getTopUsedCards(UsageWindow.ALL_TIME, TOP_CARDS * 2).stream()
+                .map(CardUsageSnapshot::cardId)
+                .collect(Collectors.toList());
+            Map<String, Card> cardsById = cardDAO.findByIds(topCardIds);
+
+            List<Card> topCards = new ArrayList<>(TOP_CARDS);
+            for (String cardId : topCardIds) {
+                Card card = cardsById.get(cardId);
+                if (card != null && topCards.size() < TOP_CARDS) {
+                    topCards.add(card);
+                }
+            }
+            return topCards;
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get top used cards: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CardUsageSnapshot> getTopUsedCards(UsageWindow window, int limit) throws ServiceException {
+        if (limit < 1) {
+            throw new ServiceException("Limit must be positive: " + limit);
+        }
+        if (columnStore != null) {
+            return topUsedCardsFromColumns(window, limit);
+        }
+        if (usageTracker != null) {
+            return usageTracker.topCards(window, limit);
+        }
+        try {
+            if (window == UsageWindow.ALL_TIME) {
+                List<CardUsageSnapshot> top = new ArrayList<>(limit);
+                for (CardUsage usage : operationDAO.findTopCardsByOperationCount(limit)) {
+                    top.add(new CardUsageSnapshot(usage.cardId(), usage.operationCount(), 0, 0));
+                }
+                return top;
+            }
+            LocalDate today = LocalDate.now();
+            return operationDAO.aggregateUsageByCard(today.withDayOfMonth(1).atStartOfDay(), today.atStartOfDay()).stream()
+                .filter(usage -> usage.count(window) > 0)
+                .sorted(Comparator.comparingLong((CardUsageSnapshot usage) -> usage.count(window)).reversed()
+                    .thenComparing(CardUsageSnapshot::cardId))
+                .limit(limit)
                 .collect(Collectors.toList());
         } catch (DaoException e) {
             throw new ServiceException("Failed to get top used cards: " + e.getMessage());
         }
     }
 
+    private List<CardUsageSnapshot> topUsedCardsFromColumns(UsageWindow window, int limit) {
+        LocalDate today = LocalDate.now();
+        List<CardUsage> usages = switch (window) {
+            case ALL_TIME -> columnStore.topCards(limit);
+            case MONTH -> columnStore.topCards(limit, today.withDayOfMonth(1).atStartOfDay(), today.plusDays(1).atStartOfDay().minusNanos(1));
+            case DAY -> columnStore.topCards(limit, today.atStartOfDay(), today.plusDays(1).atStartOfDay().minusNanos(1));
+        };
+        List<CardUsageSnapshot> top = new ArrayList<>(usages.size());
+        for (CardUsage usage : usages) {
+            long count = usage.operationCount();
+            top.add(switch (window) {
+                case ALL_TIME -> new CardUsageSnapshot(usage.cardId(), count, 0, 0);
+                case MONTH -> new CardUsageSnapshot(usage.cardId(), 0, count, 0);
+                case DAY -> new CardUsageSnapshot(usage.cardId(), 0, 0, count);
+            });
+        }
+        return top;
+    }
+
     @Override
     public Map<String, Integer> getMonthlyStatisticsByType(int month, int year) throws ServiceException {
         try {
             LocalDateTime startDate = LocalDateTime.of(year, month, 1, 0, 0);
             LocalDateTime endDate = startDate.plusMonths(1).minusSeconds(1);
+            return statisticsByType(RollupGranularity.MONTH, startDate, endDate);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get monthly statistics: " + e.getMessage());
+        }
+    }
 
-            List<CardOperation> operations = operationDAO.findByDateRange(startDate, endDate);
+    @Override
+    public Map<String, Integer> getDailyStatisticsByType(LocalDate day) throws ServiceException {
+        try {
+            LocalDateTime startDate = day.atStartOfDay();
+            LocalDateTime endDate = startDate.plusDays(1).minusSeconds(1);
+            return statisticsByType(RollupGranularity.DAY, startDate, endDate);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get daily statistics: " + e.getMessage());
+        }
+    }
 
-            Map<String, Integer> stats = new HashMap<>();
-            stats.put("PURCHASE", 0);
-            stats.put("WITHDRAWAL", 0);
-            stats.put("ONLINE_PAYMENT", 0);
+    @Override
+    public List<OperationRollup> getOperationRollups(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws ServiceException {
+        if (rollupStore != null) {
+            return rollupStore.query(granularity, startDate, endDate);
+        }
+        try {
+            return operationDAO.aggregateRollups(granularity, startDate, endDate);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get operation rollups: " + e.getMessage());
+        }
+    }
 
-            for (CardOperation op : operations) {
-                String type = op.type().name();
-                stats.put(type, stats.get(type) + 1);
-            }
+    private Map<String, Integer> statisticsByType(RollupGranularity granularity, LocalDateTime startDate, LocalDateTime endDate) throws DaoException {
+        Map<OperationType, Long> counts;
+        if (columnStore != null) {
+            counts = columnStore.countByType(startDate, endDate);
+        } else if (rollupStore != null) {
+            counts = rollupStore.countByType(granularity, startDate, endDate);
+        } else {
+            counts = operationDAO.countByTypeInRange(startDate, endDate);
+        }
 
-            return stats;
-        } catch (DaoException e) {
-            throw new ServiceException("Failed to get monthly statistics: " + e.getMessage());
+        Map<String, Integer> stats = new HashMap<>();
+        for (OperationType type : OperationType.values()) {
+            stats.put(type.name(), counts.getOrDefault(type, 0L).intValue());
         }
+        return stats;
     }
 
     @Override
@@ -92,11 +221,7 @@ public class ReportServiceImplementation implements ReportService {
                 .map(FraudAlert::cardId)
                 .collect(Collectors.toSet());
 
-            List<Card> allCards = cardDAO.findAll();
-
-            return allCards.stream()
-                .filter(card -> suspiciousCardIds.contains(card.getId()))
-                .collect(Collectors.toList());
+            return new ArrayList<>(cardDAO.findByIds(suspiciousCardIds).values());
         } catch (DaoException e) {
             throw new ServiceException("Failed to get suspicious cards: " + e.getMessage());
         }
@@ -104,40 +229,135 @@ public class ReportServiceImplementation implements ReportService {
 
     @Override
     public Map<String, Object> getClientStatistics(String clientId) throws ServiceException {
+        long loadedGeneration = 0;
+        if (clientStatisticsCache != null) {
+            Optional<Map<String, Object>> cached = clientStatisticsCache.get(clientId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            loadedGeneration = clientStatisticsCache.currentGeneration();
+        }
+
         try {
-            List<Card> clientCards = cardDAO.findByClientId(clientId);
+            Map<String, CardUsage> usageByNumber = operationDAO.aggregateByClient(clientId);
             Map<String, Object> stats = new HashMap<>();
 
-            stats.put("totalCards", clientCards.size());
+            stats.put("totalCards", usageByNumber.size());
 
             int totalOperations = 0;
             double totalAmount = 0.0;
             Map<String, Integer> operationsPerCard = new HashMap<>();
             Map<String, Double> amountPerCard = new HashMap<>();
 
-            for (Card card : clientCards) {
-                List<CardOperation> operations = operationDAO.findByCardId(card.getId());
-                int opsCount = operations.size();
-                double cardAmount = operations.stream()
-                    .mapToDouble(CardOperation::amount)
-                    .sum();
+            for (Map.Entry<String, CardUsage> entry : usageByNumber.entrySet()) {
+                int opsCount = (int) entry.getValue().operationCount();
+                double cardAmount = entry.getValue().totalAmount();
 
                 totalOperations += opsCount;
                 totalAmount += cardAmount;
 
-                operationsPerCard.put(card.getNumber(), opsCount);
-                amountPerCard.put(card.getNumber(), cardAmount);
+                operationsPerCard.put(entry.getKey(), opsCount);
+                amountPerCard.put(entry.getKey(), cardAmount);
             }
 
             stats.put("totalOperations", totalOperations);
             stats.put("totalAmount", totalAmount);
-            stats.put("operationsPerCard", operationsPerCard);
-            stats.put("amountPerCard", amountPerCard);
+            stats.put("operationsPerCard", Collections.unmodifiableMap(operationsPerCard));
+            stats.put("amountPerCard", Collections.unmodifiableMap(amountPerCard));
 
-            return stats;
+            Map<String, Object> result = Collections.unmodifiableMap(stats);
+            if (clientStatisticsCache != null) {
+                clientStatisticsCache.put(clientId, result, loadedGeneration);
+            }
+            return result;
         } catch (DaoException e) {
             throw new ServiceException("Failed to get client statistics: " + e.getMessage());
         }
     }
-}
 
+    @Override
+    public Page<CardOperation> getOperationsJournal(LocalDateTime startDate, LocalDateTime endDate, PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return operationDAO.findByDateRange(startDate, endDate, cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get operations journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<Card> getCardInventory(PageCursor cursor, int pageSize) throws ServiceException {
+        try {
+            return cardDAO.findAll(cursor, pageSize);
+        } catch (DaoException e) {
+            throw new ServiceException("Failed to get card inventory: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CacheStatistics> getCacheStatistics() {
+        List<CacheStatistics> statistics = new ArrayList<>();
+        if (cardDAO instanceof CachingCardDAOImplementation cachingCardDAO) {
+            statistics.add(cachingCardDAO.getStatistics());
+        }
+        if (clientStatisticsCache != null) {
+            statistics.add(clientStatisticsCache.getStatistics());
+        }
+        return statistics;
+    }
+
+    @Override
+    public DashboardSnapshot getDashboardSnapshot() {
+        synchronized (dashboardLock) {
+            if (cachedDashboard != null && System.nanoTime() - cachedDashboardAtNanos < dashboardFreshnessNanos) {
+                return cachedDashboard;
+            }
+
+            long started = System.nanoTime();
+            long deadline = started + dashboardTimeoutNanos;
+            LocalDate today = LocalDate.now();
+            Future<List<Card>> topCards = submitSection(deadline, this::getTop5MostUsedCards);
+            Future<Map<String, Integer>> monthlyStatistics = submitSection(deadline,
+                    () -> getMonthlyStatisticsByType(today.getMonthValue(), today.getYear()));
+            Future<List<Card>> blockedCards = submitSection(deadline, this::getBlockedCards);
+            Future<List<Card>> suspiciousCards = submitSection(deadline, this::getSuspiciousCards);
+            Future<Map<AlertLevelType, Long>> alertCounts = submitSection(deadline, alertDAO::countByLevel);
+
+            Map<String, String> failures = new LinkedHashMap<>();
+            DashboardSnapshot snapshot = new DashboardSnapshot(
+                    LocalDateTime.now(),
+                    awaitSection(DashboardSnapshot.TOP_CARDS, topCards, deadline, failures, List.of()),
+                    awaitSection(DashboardSnapshot.MONTHLY_STATISTICS, monthlyStatistics, deadline, failures, Map.of()),
+                    awaitSection(DashboardSnapshot.BLOCKED_CARDS, blockedCards, deadline, failures, List.of()),
+                    awaitSection(DashboardSnapshot.SUSPICIOUS_CARDS, suspiciousCards, deadline, failures, List.of()),
+                    awaitSection(DashboardSnapshot.ALERT_COUNTS, alertCounts, deadline, failures, Map.of()),
+                    failures,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+            if (snapshot.isComplete()) {
+                cachedDashboard = snapshot;
+                cachedDashboardAtNanos = System.nanoTime();
+            }
+            return snapshot;
+        }
+    }
+
+    private <T> Future<T> submitSection(long deadlineNanos, Callable<T> section) {
+        return dashboardExecutor.submit(() -> QueryDeadline.callWithin(deadlineNanos, section));
+    }
+
+    private <T> T awaitSection(String section, Future<T> future, long deadlineNanos, Map<String, String> failures, T unavailable) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            failures.put(section, "timed out");
+        } catch (ExecutionException e) {
+            failures.put(section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            failures.put(section, "interrupted");
+        }
+        return unavailable;
+    }
+}
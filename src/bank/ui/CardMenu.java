@@ -38,7 +38,8 @@ public class CardMenu {
             System.out.println("7. List cards by client");
             System.out.println("8. List cards by status");
             System.out.println("9. Delete card");
-            System.out.println("10. Back to main menu");
+            System.out.println("10. Top up prepaid card");
+            System.out.println("11. Back to main menu");
             System.out.print("Choose an option: ");
 
             int choice = getIntInput();
@@ -53,7 +54,8 @@ public class CardMenu {
                 case 7 -> listCardsByClient();
                 case 8 -> listCardsByStatus();
                 case 9 -> deleteCard();
-                case 10 -> { return; }
+                case 10 -> topUpCard();
+                case 11 -> { return; }
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -164,6 +166,21 @@ public class CardMenu {
         }
     }
 
+    private void topUpCard() {
+        try {
+            System.out.print("Enter prepaid card ID to top up: ");
+            String cardId = scanner.nextLine();
+            System.out.print("Enter amount: ");
+            double amount = getDoubleInput();
+
+            Card card = cardService.topUpCard(cardId, amount);
+            System.out.println("Card topped up successfully!");
+            displayCard(card);
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
     private void viewCardDetails() {
         try {
             System.out.print("Enter card ID: ");
@@ -4,7 +4,6 @@ import bank.exception.ServiceException;
 import bank.model.Client;
 import bank.services.ClientService;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
 
@@ -136,16 +135,8 @@ public class ClientMenu {
 
     private void listAllClients() {
         try {
-            List<Client> clients = clientService.listAllClients();
-            if (clients.isEmpty()) {
-                System.out.println("No clients found.");
-            } else {
-                System.out.println("\n===== ALL CLIENTS =====");
-                for (Client client : clients) {
-                    displayClient(client);
-                    System.out.println("--------------------");
-                }
-            }
+            System.out.println("\n===== ALL CLIENTS =====");
+            Pager.browse(scanner, clientService::listClients, this::displayClient);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -1,20 +1,42 @@
 package bank.ui;
 
 import bank.exception.ServiceException;
+import bank.model.AlertFilter;
 import bank.model.FraudAlert;
+import bank.model.FraudBackfillReport;
+import bank.model.FraudQueueStatistics;
+import bank.model.FraudRuleStatistics;
+import bank.services.FraudAnalysisQueue;
 import bank.services.FraudService;
+import bank.model.enums.AlertLevelType;
+import bank.services.impl.FraudBackfillJob;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class FraudMenu {
 
     private final Scanner scanner;
     private final FraudService fraudService;
+    private final FraudAnalysisQueue fraudQueue;
+    private final FraudBackfillJob backfillJob;
 
     public FraudMenu(Scanner scanner, FraudService fraudService) {
+        this(scanner, fraudService, null, null);
+    }
+
+    public FraudMenu(Scanner scanner, FraudService fraudService, FraudAnalysisQueue fraudQueue, FraudBackfillJob backfillJob) {
         this.scanner = scanner;
         this.fraudService = fraudService;
+        this.fraudQueue = fraudQueue;
+        this.backfillJob = backfillJob;
     }
 
     public void display() {
@@ -23,7 +45,11 @@ public class FraudMenu {
             System.out.println("1. View alerts by card");
             System.out.println("2. View all critical alerts");
             System.out.println("3. View all alerts");
-            System.out.println("4. Back to main menu");
+            System.out.println("4. Analysis queue statistics");
+            System.out.println("5. Rule statistics");
+            System.out.println("6. Run historical backfill");
+            System.out.println("7. Watch live alerts");
+            System.out.println("8. Back to main menu");
             System.out.print("Choose an option: ");
 
             int choice = getIntInput();
@@ -32,7 +58,11 @@ public class FraudMenu {
                 case 1 -> viewAlertsByCard();
                 case 2 -> viewCriticalAlerts();
                 case 3 -> viewAllAlerts();
-                case 4 -> { return; }
+                case 4 -> viewQueueStatistics();
+                case 5 -> viewRuleStatistics();
+                case 6 -> runBackfill();
+                case 7 -> watchLiveAlerts();
+                case 8 -> { return; }
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -40,11 +70,20 @@ public class FraudMenu {
 
     private void viewAlertsByCard() {
         try {
-            System.out.print("Enter card ID: ");
-            String cardId = scanner.nextLine();
+            System.out.print("Enter card ID(s), comma-separated: ");
+            List<String> cardIds = parseIds(scanner.nextLine());
+            if (cardIds.isEmpty()) {
+                System.out.println("No card ID entered.");
+                return;
+            }
 
-            List<FraudAlert> alerts = fraudService.getAlertsByCard(cardId);
-            displayAlerts(alerts);
+            Map<String, List<FraudAlert>> alertsByCard = fraudService.getAlertsByCards(cardIds);
+            for (Map.Entry<String, List<FraudAlert>> entry : alertsByCard.entrySet()) {
+                if (alertsByCard.size() > 1) {
+                    System.out.println("\n--- Card " + entry.getKey() + " ---");
+                }
+                displayAlerts(entry.getValue());
+            }
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -62,13 +101,132 @@ public class FraudMenu {
 
     private void viewAllAlerts() {
         try {
-            List<FraudAlert> alerts = fraudService.getAllAlerts();
-            displayAlerts(alerts);
+            System.out.println("\n===== FRAUD ALERTS =====");
+            Pager.browse(scanner, fraudService::getAlerts, this::displayAlert);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
     }
 
+    private void viewQueueStatistics() {
+        if (fraudQueue == null) {
+            System.out.println("Fraud analysis runs synchronously; no queue is active.");
+            return;
+        }
+        FraudQueueStatistics stats = fraudQueue.getStatistics();
+        System.out.println("\n===== FRAUD ANALYSIS QUEUE =====");
+        System.out.println("Workers: " + stats.workers());
+        System.out.println("Queue depth: " + stats.depth() + " / " + stats.capacity());
+        System.out.println("Submitted: " + stats.submitted());
+        System.out.println("Processed: " + stats.processed());
+        System.out.println("Dropped: " + stats.dropped());
+        System.out.println("Failed: " + stats.failed());
+        System.out.println("Oldest pending: " + stats.oldestPendingMillis() + " ms");
+        System.out.println("Last lag: " + stats.lastLagMillis() + " ms");
+        System.out.println("Max lag: " + stats.maxLagMillis() + " ms");
+    }
+
+    private void viewRuleStatistics() {
+        System.out.println("\n===== FRAUD RULES =====");
+        for (FraudRuleStatistics stats : fraudService.getRuleStatistics()) {
+            System.out.println("Rule: " + stats.rule() + (stats.enabled() ? "" : " (disabled)"));
+            System.out.println("  Evaluations: " + stats.evaluations());
+            System.out.println("  Hits: " + stats.hits());
+            System.out.printf("  Avg time: %.2f us, max: %.2f us%n", stats.averageMicros(), stats.maxMicros());
+        }
+        System.out.println("Repeated alerts collapsed: " + fraudService.getSuppressedAlertCount());
+    }
+
+    private void runBackfill() {
+        if (backfillJob == null) {
+            System.out.println("Backfill is not available.");
+            return;
+        }
+        try {
+            System.out.print("Enter start date (yyyy-MM-dd HH:mm): ");
+            String startStr = scanner.nextLine();
+            System.out.print("Enter end date (yyyy-MM-dd HH:mm): ");
+            String endStr = scanner.nextLine();
+            System.out.print("Resume from last checkpoint? (yes/no): ");
+            boolean resume = scanner.nextLine().equalsIgnoreCase("yes");
+
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+            LocalDateTime startDate = LocalDateTime.parse(startStr, formatter);
+            LocalDateTime endDate = LocalDateTime.parse(endStr, formatter);
+
+            FraudBackfillReport report = backfillJob.run(startDate, endDate, resume);
+            System.out.println("\n===== BACKFILL REPORT =====");
+            if (report.resumedAfterCardId() != null) {
+                System.out.println("Resumed after card: " + report.resumedAfterCardId());
+            }
+            System.out.println("Cards processed: " + report.cardsProcessed());
+            System.out.println("Operations processed: " + report.operationsProcessed());
+            System.out.println("Alerts written: " + report.alertsWritten());
+            System.out.println("Alerts failed: " + report.alertsFailed());
+            System.out.println("Elapsed: " + report.elapsedMillis() + " ms");
+            System.out.printf("Throughput: %.0f operations/s%n", report.operationsPerSecond());
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void watchLiveAlerts() {
+        System.out.print("Minimum level (INFO/WARNING/CRITICAL, blank for all): ");
+        String levelStr = scanner.nextLine().trim();
+        System.out.print("Card ID (blank for all cards): ");
+        String cardId = scanner.nextLine().trim();
+
+        Set<AlertLevelType> levels;
+        try {
+            levels = levelStr.isEmpty() ? Set.of() : levelsFrom(AlertLevelType.valueOf(levelStr.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown alert level: " + levelStr);
+            return;
+        }
+
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        fraudService.alertFeed(new AlertFilter(levels, cardId.isEmpty() ? null : cardId)).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(FraudAlert alert) {
+                System.out.println("\n>>> NEW ALERT");
+                displayAlert(alert);
+                System.out.println("--------------------");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                System.out.println("Alert feed stopped: " + throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                System.out.println("Alert feed closed.");
+            }
+        });
+
+        System.out.println("Watching for new alerts. Press Enter to stop.");
+        scanner.nextLine();
+        Flow.Subscription active = subscription.get();
+        if (active != null) {
+            active.cancel();
+        }
+        System.out.println("Notifications dropped for slow viewers: " + fraudService.getDroppedAlertNotificationCount());
+    }
+
+    private Set<AlertLevelType> levelsFrom(AlertLevelType minimum) {
+        return switch (minimum) {
+            case INFO -> Set.of(AlertLevelType.INFO, AlertLevelType.WARNING, AlertLevelType.CRITICAL);
+            case WARNING -> Set.of(AlertLevelType.WARNING, AlertLevelType.CRITICAL);
+            case CRITICAL -> Set.of(AlertLevelType.CRITICAL);
+        };
+    }
+
     private void displayAlerts(List<FraudAlert> alerts) {
         if (alerts.isEmpty()) {
             System.out.println("No alerts found.");
@@ -85,9 +243,18 @@ public class FraudMenu {
         System.out.println("Alert ID: " + alert.id());
         System.out.println("Card ID: " + alert.cardId());
         System.out.println("Level: " + alert.level());
+        System.out.println("Occurrences: " + alert.occurrences());
         System.out.println("Description: " + alert.description());
     }
 
+    private List<String> parseIds(String input) {
+        return Arrays.stream(input.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+    }
+
     private int getIntInput() {
         try {
             return Integer.parseInt(scanner.nextLine());
@@ -1,10 +1,18 @@
 package bank.ui;
 
+import bank.config.AppConfig;
+import bank.config.DatabaseConnection;
+import bank.config.SchemaMigrator;
+import bank.config.SchemaVerifier;
+import bank.dao.*;
 import bank.dao.impl.*;
+import bank.exception.DaoException;
 import bank.exception.ServiceException;
 import bank.services.*;
+import bank.services.analytics.OperationColumnStore;
 import bank.services.impl.*;
 
+import java.sql.SQLException;
 import java.util.Scanner;
 
 public class MainMenu {
@@ -15,20 +23,105 @@ public class MainMenu {
     private final OperationService operationService;
     private final FraudService fraudService;
     private final ReportService reportService;
+    private final GroupCommitOperationWriter operationWriter;
+    private final FraudAnalysisQueue fraudQueue;
+    private final FraudBackfillJob backfillJob;
 
     public MainMenu() {
         this.scanner = new Scanner(System.in);
 
-        ClientdaoImplementation clientDAO = new ClientdaoImplementation();
-        CarddaoImplementation cardDAO = new CarddaoImplementation();
-        OperationDAOImplementation operationDAO = new OperationDAOImplementation();
-        AlertDAOImplementation alertDAO = new AlertDAOImplementation();
+        ClientDAO clientDAO;
+        CardDAO cardDAO;
+        OperationDAO operationDAO;
+        AlertDAO alertDAO;
+        InMemoryClientDAOImplementation inMemoryClientDAO = null;
+        if (AppConfig.getString("bank.storage", "mysql").equalsIgnoreCase("memory")) {
+            System.out.println("Using in-memory storage. Data will not be persisted.");
+            inMemoryClientDAO = new InMemoryClientDAOImplementation();
+            clientDAO = inMemoryClientDAO;
+            InMemoryCardDAOImplementation inMemoryCardDAO = new InMemoryCardDAOImplementation();
+            operationDAO = new InMemoryOperationDAOImplementation(inMemoryCardDAO);
+            alertDAO = new InMemoryAlertDAOImplementation();
+            inMemoryCardDAO.setOperationDAO(operationDAO);
+            inMemoryCardDAO.setAlertDAO(alertDAO);
+            cardDAO = inMemoryCardDAO;
+        } else {
+            if (AppConfig.getBoolean("bank.db.migrate", true)) {
+                bootstrapSchema(DatabaseConnection.getInstance());
+            }
+            clientDAO = new ClientdaoImplementation();
+            cardDAO = new CarddaoImplementation();
+            operationDAO = new OperationDAOImplementation();
+            alertDAO = new AlertDAOImplementation();
+        }
+
+        if (AppConfig.getBoolean("bank.cache.cards", true)) {
+            cardDAO = new CachingCardDAOImplementation(cardDAO);
+        }
+        if (inMemoryClientDAO != null) {
+            inMemoryClientDAO.setCardDAO(cardDAO);
+        }
+
+        this.operationWriter = AppConfig.getBoolean("bank.operations.groupCommit", true)
+                ? new GroupCommitOperationWriter(operationDAO)
+                : null;
+
+        CardSpendTracker spendTracker = new CardSpendTracker(operationDAO);
+        try {
+            spendTracker.rebuild();
+        } catch (DaoException e) {
+            System.out.println("Card spend counters could not be rebuilt, cumulative limits will not be enforced: " + e.getMessage());
+            spendTracker = null;
+        }
 
         this.clientService = new ClientServiceImplementation(clientDAO);
-        this.cardService = new CardServiceImplementation(cardDAO);
-        this.operationService = new OperationServiceImplementation(operationDAO, cardDAO);
-        this.fraudService = new FraudServiceImplementation(alertDAO, operationDAO);
-        this.reportService = new ReportServiceImplementation(cardDAO, operationDAO, alertDAO);
+        this.cardService = new CardServiceImplementation(cardDAO, operationDAO, spendTracker);
+        this.operationService = new OperationServiceImplementation(operationDAO, cardDAO, operationWriter, spendTracker);
+        this.fraudService = new FraudServiceImplementation(alertDAO, operationDAO, cardDAO);
+
+        OperationColumnStore columnStore = null;
+        if (AppConfig.getBoolean("bank.analytics.columnar", false)) {
+            columnStore = new OperationColumnStore(operationDAO);
+            try {
+                columnStore.rebuild();
+                this.operationService.addOperationListener(columnStore);
+                this.cardService.addCardListener(columnStore);
+                System.out.println("Loaded " + columnStore.size() + " operation(s) into the analytics snapshot.");
+            } catch (DaoException e) {
+                System.out.println("Analytics snapshot could not be loaded: " + e.getMessage());
+                columnStore = null;
+            }
+        }
+        CardUsageTracker usageTracker = null;
+        if (columnStore == null) {
+            usageTracker = new CardUsageTracker(operationDAO);
+            try {
+                usageTracker.rebuild();
+                this.operationService.addOperationListener(usageTracker);
+                this.cardService.addCardListener(usageTracker);
+            } catch (DaoException e) {
+                System.out.println("Card usage counters could not be rebuilt, reports will query the database: " + e.getMessage());
+                usageTracker = null;
+            }
+        }
+        OperationRollupStore rollupStore = new OperationRollupStore(operationDAO);
+        try {
+            rollupStore.rebuild();
+            this.operationService.addOperationListener(rollupStore);
+            this.cardService.addCardListener(rollupStore);
+        } catch (DaoException e) {
+            System.out.println("Operation rollups could not be rebuilt, reports will query the database: " + e.getMessage());
+            rollupStore = null;
+        }
+        ClientStatisticsCache clientStatisticsCache = new ClientStatisticsCache();
+        this.operationService.addOperationListener(clientStatisticsCache);
+        this.cardService.addCardListener(clientStatisticsCache);
+        this.reportService = new ReportServiceImplementation(cardDAO, operationDAO, alertDAO,
+                usageTracker, rollupStore, columnStore, clientStatisticsCache);
+        this.backfillJob = new FraudBackfillJob(operationDAO, cardDAO, alertDAO);
+        this.fraudQueue = AppConfig.getBoolean("bank.fraud.async", true)
+                ? new FraudAnalysisQueueImplementation(fraudService)
+                : null;
     }
 
     public void display() {
@@ -47,11 +140,17 @@ public class MainMenu {
             switch (choice) {
                 case 1 -> new ClientMenu(scanner, clientService).display();
                 case 2 -> new CardMenu(scanner, cardService, clientService).display();
-                case 3 -> new OperationMenu(scanner, operationService, cardService, fraudService).display();
-                case 4 -> new FraudMenu(scanner, fraudService).display();
+                case 3 -> new OperationMenu(scanner, operationService, cardService, fraudService, fraudQueue).display();
+                case 4 -> new FraudMenu(scanner, fraudService, fraudQueue, backfillJob).display();
                 case 5 -> new ReportMenu(scanner, reportService).display();
                 case 6 -> {
                     System.out.println("Exiting... Goodbye!");
+                    if (fraudQueue != null) {
+                        fraudQueue.close();
+                    }
+                    if (operationWriter != null) {
+                        operationWriter.close();
+                    }
                     scanner.close();
                     return;
                 }
@@ -60,6 +159,20 @@ public class MainMenu {
         }
     }
 
+    private void bootstrapSchema(DatabaseConnection database) {
+        try {
+            int applied = new SchemaMigrator(database).migrate();
+            if (applied > 0) {
+                System.out.println("Applied " + applied + " schema migration(s).");
+            }
+            for (String warning : new SchemaVerifier(database).verify()) {
+                System.out.println("Schema warning: " + warning);
+            }
+        } catch (SQLException e) {
+            System.out.println("Schema bootstrap failed: " + e.getMessage());
+        }
+    }
+
     private int getIntInput() {
         try {
             return Integer.parseInt(scanner.nextLine());
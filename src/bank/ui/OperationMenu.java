@@ -4,12 +4,15 @@ import bank.exception.ServiceException;
 import bank.model.CardOperation;
 import bank.model.enums.OperationType;
 import bank.services.CardService;
+import bank.services.FraudAnalysisQueue;
 import bank.services.FraudService;
 import bank.services.OperationService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 public class OperationMenu {
@@ -18,12 +21,19 @@ public class OperationMenu {
     private final OperationService operationService;
     private final CardService cardService;
     private final FraudService fraudService;
+    private final FraudAnalysisQueue fraudQueue;
 
     public OperationMenu(Scanner scanner, OperationService operationService, CardService cardService, FraudService fraudService) {
+        this(scanner, operationService, cardService, fraudService, null);
+    }
+
+    public OperationMenu(Scanner scanner, OperationService operationService, CardService cardService,
+                         FraudService fraudService, FraudAnalysisQueue fraudQueue) {
         this.scanner = scanner;
         this.operationService = operationService;
         this.cardService = cardService;
         this.fraudService = fraudService;
+        this.fraudQueue = fraudQueue;
     }
 
     public void display() {
@@ -36,7 +46,9 @@ public class OperationMenu {
             System.out.println("5. View operations by client");
             System.out.println("6. Filter operations by type");
             System.out.println("7. Filter operations by date range");
-            System.out.println("8. Back to main menu");
+            System.out.println("8. Browse all operations");
+            System.out.println("9. Browse operations by type");
+            System.out.println("10. Back to main menu");
             System.out.print("Choose an option: ");
 
             int choice = getIntInput();
@@ -49,7 +61,9 @@ public class OperationMenu {
                 case 5 -> viewOperationsByClient();
                 case 6 -> filterByType();
                 case 7 -> filterByDateRange();
-                case 8 -> { return; }
+                case 8 -> browseAllOperations();
+                case 9 -> browseOperationsByType();
+                case 10 -> { return; }
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -74,7 +88,7 @@ public class OperationMenu {
             System.out.println("Purchase recorded successfully!");
             displayOperation(operation);
 
-            fraudService.analyzeOperationInRealTime(operation);
+            analyzeForFraud(operation);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -99,7 +113,7 @@ public class OperationMenu {
             System.out.println("Withdrawal recorded successfully!");
             displayOperation(operation);
 
-            fraudService.analyzeOperationInRealTime(operation);
+            analyzeForFraud(operation);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -124,7 +138,7 @@ public class OperationMenu {
             System.out.println("Online payment recorded successfully!");
             displayOperation(operation);
 
-            fraudService.analyzeOperationInRealTime(operation);
+            analyzeForFraud(operation);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -132,11 +146,20 @@ public class OperationMenu {
 
     private void viewOperationsByCard() {
         try {
-            System.out.print("Enter card ID: ");
-            String cardId = scanner.nextLine();
+            System.out.print("Enter card ID(s), comma-separated: ");
+            List<String> cardIds = parseIds(scanner.nextLine());
+            if (cardIds.isEmpty()) {
+                System.out.println("No card ID entered.");
+                return;
+            }
 
-            List<CardOperation> operations = operationService.getOperationsByCard(cardId);
-            displayOperations(operations);
+            Map<String, List<CardOperation>> operationsByCard = operationService.getOperationsByCards(cardIds);
+            for (Map.Entry<String, List<CardOperation>> entry : operationsByCard.entrySet()) {
+                if (operationsByCard.size() > 1) {
+                    System.out.println("\n--- Card " + entry.getKey() + " ---");
+                }
+                displayOperations(entry.getValue());
+            }
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -147,8 +170,9 @@ public class OperationMenu {
             System.out.print("Enter client ID: ");
             String clientId = scanner.nextLine();
 
-            List<CardOperation> operations = operationService.getOperationsByClient(clientId);
-            displayOperations(operations);
+            System.out.println("\n===== CLIENT TIMELINE =====");
+            Pager.browse(scanner, (cursor, pageSize) -> operationService.getClientTimeline(clientId, cursor, pageSize),
+                    this::displayOperation);
         } catch (ServiceException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -206,6 +230,50 @@ public class OperationMenu {
         }
     }
 
+    private void browseAllOperations() {
+        try {
+            Pager.browse(scanner, operationService::browseOperations, this::displayOperation);
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void browseOperationsByType() {
+        try {
+            System.out.println("Select operation type:");
+            System.out.println("1. Purchase");
+            System.out.println("2. Withdrawal");
+            System.out.println("3. Online Payment");
+            System.out.print("Choice: ");
+            int typeChoice = getIntInput();
+
+            OperationType type = switch (typeChoice) {
+                case 1 -> OperationType.PURCHASE;
+                case 2 -> OperationType.WITHDRAWAL;
+                case 3 -> OperationType.ONLINE_PAYMENT;
+                default -> null;
+            };
+
+            if (type == null) {
+                System.out.println("Invalid type.");
+                return;
+            }
+
+            Pager.browse(scanner, (cursor, pageSize) -> operationService.browseOperationsByType(type, cursor, pageSize),
+                    this::displayOperation);
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void analyzeForFraud(CardOperation operation) throws ServiceException {
+        if (fraudQueue == null) {
+            fraudService.analyzeOperationInRealTime(operation);
+        } else if (!fraudQueue.submit(operation)) {
+            System.out.println("Warning: fraud analysis queue is full, operation was not analyzed.");
+        }
+    }
+
     private void displayOperations(List<CardOperation> operations) {
         if (operations.isEmpty()) {
             System.out.println("No operations found.");
@@ -227,6 +295,14 @@ public class OperationMenu {
         System.out.println("Card ID: " + operation.cardId());
     }
 
+    private List<String> parseIds(String input) {
+        return Arrays.stream(input.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+    }
+
     private int getIntInput() {
         try {
             return Integer.parseInt(scanner.nextLine());
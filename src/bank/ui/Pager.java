@@ -0,0 +1,50 @@
+package bank.ui;
+
+import bank.config.AppConfig;
+import bank.exception.ServiceException;
+import bank.model.Page;
+import bank.model.PageCursor;
+
+import java.util.Scanner;
+import java.util.function.Consumer;
+
+final class Pager {
+
+    interface PageLoader<T> {
+        Page<T> load(PageCursor cursor, int pageSize) throws ServiceException;
+    }
+
+    private Pager() {
+    }
+
+    static <T> void browse(Scanner scanner, PageLoader<T> loader, Consumer<T> printer) throws ServiceException {
+        int pageSize = AppConfig.getInt("bank.ui.pageSize", 20);
+        PageCursor cursor = null;
+        int pageNumber = 1;
+
+        while (true) {
+            Page<T> page = loader.load(cursor, pageSize);
+            if (page.items().isEmpty() && pageNumber == 1) {
+                System.out.println("No results found.");
+                return;
+            }
+
+            System.out.println("\n----- Page " + pageNumber + " -----");
+            for (T item : page.items()) {
+                printer.accept(item);
+                System.out.println("--------------------");
+            }
+
+            if (!page.hasNext()) {
+                System.out.println("End of results.");
+                return;
+            }
+            System.out.print("Press Enter for the next page or 'q' to stop: ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                return;
+            }
+            cursor = page.nextCursor();
+            pageNumber++;
+        }
+    }
+}
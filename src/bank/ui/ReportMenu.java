@@ -1,9 +1,20 @@
 package bank.ui;
 
 import bank.exception.ServiceException;
+import bank.model.CacheStatistics;
 import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CardUsageSnapshot;
+import bank.model.DashboardSnapshot;
+import bank.model.OperationRollup;
+import bank.model.enums.RollupGranularity;
+import bank.model.enums.UsageWindow;
 import bank.services.ReportService;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
@@ -26,7 +37,14 @@ public class ReportMenu {
             System.out.println("3. Blocked cards report");
             System.out.println("4. Suspicious cards report");
             System.out.println("5. Client statistics");
-            System.out.println("6. Back to main menu");
+            System.out.println("6. Operations journal");
+            System.out.println("7. Card inventory");
+            System.out.println("8. Top used cards by period");
+            System.out.println("9. Daily statistics by operation type");
+            System.out.println("10. Activity rollups (hour/day/month)");
+            System.out.println("11. Dashboard");
+            System.out.println("12. Cache statistics");
+            System.out.println("13. Back to main menu");
             System.out.print("Choose an option: ");
 
             int choice = getIntInput();
@@ -37,7 +55,14 @@ public class ReportMenu {
                 case 3 -> showBlockedCards();
                 case 4 -> showSuspiciousCards();
                 case 5 -> showClientStatistics();
-                case 6 -> { return; }
+                case 6 -> showOperationsJournal();
+                case 7 -> showCardInventory();
+                case 8 -> showTopUsedCards();
+                case 9 -> showDailyStatistics();
+                case 10 -> showOperationRollups();
+                case 11 -> showDashboard();
+                case 12 -> showCacheStatistics();
+                case 13 -> { return; }
                 default -> System.out.println("Invalid option. Please try again.");
             }
         }
@@ -65,6 +90,31 @@ public class ReportMenu {
         }
     }
 
+    private void showTopUsedCards() {
+        try {
+            System.out.print("Period (ALL_TIME/MONTH/DAY): ");
+            UsageWindow window = UsageWindow.valueOf(scanner.nextLine().trim().toUpperCase());
+            System.out.print("How many cards: ");
+            int limit = getIntInput();
+
+            List<CardUsageSnapshot> topCards = reportService.getTopUsedCards(window, limit);
+            if (topCards.isEmpty()) {
+                System.out.println("No card activity found.");
+                return;
+            }
+            System.out.println("\n===== TOP USED CARDS (" + window + ") =====");
+            int rank = 1;
+            for (CardUsageSnapshot usage : topCards) {
+                System.out.println(rank + ". Card ID: " + usage.cardId() + " - Operations: " + usage.count(window));
+                rank++;
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown period.");
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
     private void showMonthlyStatistics() {
         try {
             System.out.print("Enter month (1-12): ");
@@ -88,6 +138,102 @@ public class ReportMenu {
         }
     }
 
+    private void showDailyStatistics() {
+        try {
+            System.out.print("Enter day (yyyy-MM-dd): ");
+            LocalDate day = LocalDate.parse(scanner.nextLine().trim());
+
+            Map<String, Integer> stats = reportService.getDailyStatisticsByType(day);
+            System.out.println("\n===== DAILY STATISTICS FOR " + day + " =====");
+            System.out.println("Purchases: " + stats.get("PURCHASE"));
+            System.out.println("Withdrawals: " + stats.get("WITHDRAWAL"));
+            System.out.println("Online Payments: " + stats.get("ONLINE_PAYMENT"));
+            System.out.println("Total Operations: " + (stats.get("PURCHASE") + stats.get("WITHDRAWAL") + stats.get("ONLINE_PAYMENT")));
+        } catch (DateTimeParseException e) {
+            System.out.println("Invalid date format.");
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void showOperationRollups() {
+        try {
+            System.out.print("Granularity (HOUR/DAY/MONTH): ");
+            RollupGranularity granularity = RollupGranularity.valueOf(scanner.nextLine().trim().toUpperCase());
+            System.out.print("Enter start date (yyyy-MM-dd HH:mm): ");
+            String startStr = scanner.nextLine();
+            System.out.print("Enter end date (yyyy-MM-dd HH:mm): ");
+            String endStr = scanner.nextLine();
+
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+            LocalDateTime startDate = LocalDateTime.parse(startStr, formatter);
+            LocalDateTime endDate = LocalDateTime.parse(endStr, formatter);
+
+            List<OperationRollup> rollups = reportService.getOperationRollups(granularity, startDate, endDate);
+            if (rollups.isEmpty()) {
+                System.out.println("No activity in this period.");
+                return;
+            }
+            System.out.println("\n===== ACTIVITY BY " + granularity + " =====");
+            for (OperationRollup rollup : rollups) {
+                System.out.printf("%s  %-15s %-8s %6d ops  %12.2f%n", rollup.bucketStart(), rollup.type(),
+                        rollup.cardType() == null ? "UNKNOWN" : rollup.cardType(), rollup.operationCount(), rollup.totalAmount());
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown granularity.");
+        } catch (DateTimeParseException e) {
+            System.out.println("Invalid date format.");
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void showDashboard() {
+        DashboardSnapshot dashboard = reportService.getDashboardSnapshot();
+        System.out.println("\n===== DASHBOARD (" + dashboard.generatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + ") =====");
+
+        if (dashboard.isAvailable(DashboardSnapshot.TOP_CARDS)) {
+            System.out.println("Top used cards:");
+            int rank = 1;
+            for (Card card : dashboard.topCards()) {
+                System.out.println("  " + rank + ". " + card.getNumber() + " (" + card.getCardType() + ")");
+                rank++;
+            }
+        }
+        if (dashboard.isAvailable(DashboardSnapshot.MONTHLY_STATISTICS)) {
+            Map<String, Integer> stats = dashboard.monthlyStatistics();
+            System.out.println("This month: " + stats.get("PURCHASE") + " purchases, " + stats.get("WITHDRAWAL")
+                    + " withdrawals, " + stats.get("ONLINE_PAYMENT") + " online payments");
+        }
+        if (dashboard.isAvailable(DashboardSnapshot.BLOCKED_CARDS)) {
+            System.out.println("Blocked cards: " + dashboard.blockedCards().size());
+        }
+        if (dashboard.isAvailable(DashboardSnapshot.SUSPICIOUS_CARDS)) {
+            System.out.println("Suspicious cards: " + dashboard.suspiciousCards().size());
+        }
+        if (dashboard.isAvailable(DashboardSnapshot.ALERT_COUNTS)) {
+            System.out.println("Alerts: " + dashboard.alertCounts());
+        }
+        for (Map.Entry<String, String> failure : dashboard.failures().entrySet()) {
+            System.out.println("Unavailable - " + failure.getKey() + ": " + failure.getValue());
+        }
+        System.out.println("Computed in " + dashboard.elapsedMillis() + " ms");
+    }
+
+    private void showCacheStatistics() {
+        List<CacheStatistics> caches = reportService.getCacheStatistics();
+        if (caches.isEmpty()) {
+            System.out.println("No caches are enabled.");
+            return;
+        }
+        System.out.println("\n===== CACHE STATISTICS =====");
+        for (CacheStatistics cache : caches) {
+            System.out.println(cache.name() + ": " + cache.size() + " / " + cache.maxSize() + " entries");
+            System.out.printf("  Hits: %d, misses: %d, hit ratio: %.1f%%%n", cache.hits(), cache.misses(), cache.hitRatio() * 100);
+            System.out.println("  Evictions: " + cache.evictions() + ", invalidations: " + cache.invalidations());
+        }
+    }
+
     private void showBlockedCards() {
         try {
             List<Card> blockedCards = reportService.getBlockedCards();
@@ -159,6 +305,49 @@ public class ReportMenu {
         }
     }
 
+    private void showOperationsJournal() {
+        try {
+            System.out.print("Enter start date (yyyy-MM-dd HH:mm): ");
+            String startStr = scanner.nextLine();
+            System.out.print("Enter end date (yyyy-MM-dd HH:mm): ");
+            String endStr = scanner.nextLine();
+
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+            LocalDateTime startDate = LocalDateTime.parse(startStr, formatter);
+            LocalDateTime endDate = LocalDateTime.parse(endStr, formatter);
+
+            System.out.println("\n===== OPERATIONS JOURNAL =====");
+            Pager.browse(scanner,
+                    (cursor, pageSize) -> reportService.getOperationsJournal(startDate, endDate, cursor, pageSize),
+                    this::displayOperation);
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void showCardInventory() {
+        try {
+            System.out.println("\n===== CARD INVENTORY =====");
+            Pager.browse(scanner, reportService::getCardInventory, card -> {
+                System.out.println("Card Number: " + card.getNumber());
+                System.out.println("Type: " + card.getCardType());
+                System.out.println("Status: " + card.getStatus());
+                System.out.println("Client ID: " + card.getClientId());
+            });
+        } catch (ServiceException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void displayOperation(CardOperation operation) {
+        System.out.println("Date: " + operation.date());
+        System.out.println("Operation ID: " + operation.id());
+        System.out.println("Card ID: " + operation.cardId());
+        System.out.println("Type: " + operation.type());
+        System.out.println("Amount: " + operation.amount());
+        System.out.println("Location: " + operation.location());
+    }
+
     private int getIntInput() {
         try {
             return Integer.parseInt(scanner.nextLine());
@@ -0,0 +1,209 @@
+package bank.services.impl;
+
+import bank.dao.impl.InMemoryOperationDAOImplementation;
+import bank.model.Card;
+import bank.model.CardOperation;
+import bank.model.CreditCard;
+import bank.model.DebitCard;
+import bank.model.enums.OperationType;
+import bank.model.enums.Status;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class CardSpendTrackerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 31, 10, 0);
+
+    private interface TestCase {
+        void run(CardSpendTrackerTest test) throws Exception;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        private void set(LocalDateTime now) {
+            this.now = now.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private final MutableClock clock;
+    private final InMemoryOperationDAOImplementation operationDAO;
+    private final CardSpendTracker tracker;
+    private final Card debitCard;
+    private final Card creditCard;
+
+    private CardSpendTrackerTest() {
+        clock = new MutableClock(START);
+        operationDAO = new InMemoryOperationDAOImplementation();
+        tracker = new CardSpendTracker(operationDAO, clock);
+        debitCard = new DebitCard("4000-0000-0000-0001", LocalDate.of(2030, 1, 1), Status.ACTIVE, "client", 100.0);
+        creditCard = new CreditCard("5000-0000-0000-0001", LocalDate.of(2030, 1, 1), Status.ACTIVE, "client", 500.0, 0.2);
+    }
+
+    private void reservedOperationIsCountedOnceWhenRecorded() {
+        CardOperation operation = operation(debitCard, 40.0, START);
+
+        assertTrue(tracker.tryReserve(operation, debitCard));
+        tracker.onOperationRecorded(operation, debitCard);
+
+        assertEquals(40.0, tracker.spendOf(debitCard.getId()).daySpend());
+        assertEquals(40.0, tracker.spendOf(debitCard.getId()).monthSpend());
+    }
+
+    private void unreservedRecordedOperationIsCounted() {
+        tracker.onOperationRecorded(operation(debitCard, 25.0, START), debitCard);
+
+        assertEquals(25.0, tracker.spendOf(debitCard.getId()).daySpend());
+    }
+
+    private void reservationBeyondDailyLimitIsRejected() {
+        assertTrue(tracker.tryReserve(operation(debitCard, 60.0, START), debitCard));
+
+        assertFalse(tracker.tryReserve(operation(debitCard, 50.0, START), debitCard));
+        assertFalse(tracker.isWithinLimits(debitCard.getId(), debitCard, 50.0));
+        assertEquals(60.0, tracker.spendOf(debitCard.getId()).daySpend());
+    }
+
+    private void releaseReturnsReservedAmountOnce() {
+        CardOperation operation = operation(debitCard, 70.0, START);
+        assertTrue(tracker.tryReserve(operation, debitCard));
+
+        tracker.release(operation);
+        tracker.release(operation);
+
+        assertEquals(0.0, tracker.spendOf(debitCard.getId()).daySpend());
+        assertTrue(tracker.tryReserve(operation(debitCard, 100.0, START), debitCard));
+    }
+
+    private void deletedOperationIsSubtracted() {
+        CardOperation kept = operation(creditCard, 120.0, START);
+        CardOperation deleted = operation(creditCard, 80.0, START);
+        tracker.onOperationRecorded(kept, creditCard);
+        tracker.onOperationRecorded(deleted, creditCard);
+
+        tracker.onOperationDeleted(deleted, creditCard);
+
+        assertEquals(120.0, tracker.spendOf(creditCard.getId()).monthSpend());
+    }
+
+    private void deletingOperationFromPreviousMonthLeavesCurrentMonthUntouched() {
+        CardOperation lastMonth = operation(creditCard, 90.0, START);
+        tracker.onOperationRecorded(lastMonth, creditCard);
+        clock.set(START.plusDays(1));
+        tracker.onOperationRecorded(operation(creditCard, 30.0, START.plusDays(1)), creditCard);
+
+        tracker.onOperationDeleted(lastMonth, creditCard);
+
+        assertEquals(30.0, tracker.spendOf(creditCard.getId()).monthSpend());
+    }
+
+    private void dayRolloverResetsDailySpendWithinMonth() {
+        LocalDateTime morning = START.minusDays(1);
+        clock.set(morning);
+        tracker.onOperationRecorded(operation(debitCard, 90.0, morning), debitCard);
+
+        clock.set(START);
+
+        assertEquals(0.0, tracker.spendOf(debitCard.getId()).daySpend());
+        assertEquals(90.0, tracker.spendOf(debitCard.getId()).monthSpend());
+        assertTrue(tracker.tryReserve(operation(debitCard, 90.0, START), debitCard));
+    }
+
+    private void monthRolloverResetsMonthlySpend() {
+        tracker.onOperationRecorded(operation(creditCard, 450.0, START), creditCard);
+        assertFalse(tracker.isWithinLimits(creditCard.getId(), creditCard, 100.0));
+
+        clock.set(START.plusDays(1));
+
+        assertEquals(0.0, tracker.spendOf(creditCard.getId()).monthSpend());
+        assertTrue(tracker.tryReserve(operation(creditCard, 100.0, START.plusDays(1)), creditCard));
+    }
+
+    private void rebuildLoadsOnlyCurrentMonthAndDay() throws Exception {
+        operationDAO.create(operation(debitCard, 10.0, START.minusMonths(1)));
+        operationDAO.create(operation(debitCard, 20.0, START.minusDays(2)));
+        operationDAO.create(operation(debitCard, 30.0, START.minusHours(1)));
+
+        tracker.rebuild();
+
+        assertEquals(30.0, tracker.spendOf(debitCard.getId()).daySpend());
+        assertEquals(50.0, tracker.spendOf(debitCard.getId()).monthSpend());
+    }
+
+    public static void main(String[] args) {
+        Map<String, TestCase> cases = new LinkedHashMap<>();
+        cases.put("reservedOperationIsCountedOnceWhenRecorded", CardSpendTrackerTest::reservedOperationIsCountedOnceWhenRecorded);
+        cases.put("unreservedRecordedOperationIsCounted", CardSpendTrackerTest::unreservedRecordedOperationIsCounted);
+        cases.put("reservationBeyondDailyLimitIsRejected", CardSpendTrackerTest::reservationBeyondDailyLimitIsRejected);
+        cases.put("releaseReturnsReservedAmountOnce", CardSpendTrackerTest::releaseReturnsReservedAmountOnce);
+        cases.put("deletedOperationIsSubtracted", CardSpendTrackerTest::deletedOperationIsSubtracted);
+        cases.put("deletingOperationFromPreviousMonthLeavesCurrentMonthUntouched",
+                CardSpendTrackerTest::deletingOperationFromPreviousMonthLeavesCurrentMonthUntouched);
+        cases.put("dayRolloverResetsDailySpendWithinMonth", CardSpendTrackerTest::dayRolloverResetsDailySpendWithinMonth);
+        cases.put("monthRolloverResetsMonthlySpend", CardSpendTrackerTest::monthRolloverResetsMonthlySpend);
+        cases.put("rebuildLoadsOnlyCurrentMonthAndDay", CardSpendTrackerTest::rebuildLoadsOnlyCurrentMonthAndDay);
+
+        int failed = 0;
+        for (Map.Entry<String, TestCase> entry : cases.entrySet()) {
+            try {
+                entry.getValue().run(new CardSpendTrackerTest());
+            } catch (Exception | AssertionError e) {
+                failed++;
+                System.out.println("FAIL " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+        System.out.println("CardSpendTrackerTest: " + (cases.size() - failed) + " passed, " + failed + " failed");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void assertEquals(double expected, double actual) {
+        if (Double.compare(expected, actual) != 0) {
+            throw new AssertionError("expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+
+    private static void assertFalse(boolean condition) {
+        if (condition) {
+            throw new AssertionError("expected false");
+        }
+    }
+
+    private static CardOperation operation(Card card, double amount, LocalDateTime date) {
+        return new CardOperation(UUID.randomUUID().toString(), date, amount, OperationType.PURCHASE, "Casablanca", card.getId());
+    }
+}
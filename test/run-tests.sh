@@ -0,0 +1,13 @@
+#!/bin/sh
+# Compiles src/ and test/ with the JDK alone and runs every *Test class's main method.
+cd "$(dirname "$0")/.." || exit 1
+out=$(mktemp -d)
+trap 'rm -rf "$out"' EXIT
+
+javac -d "$out" $(find src test -name '*.java') || exit 1
+
+status=0
+for test in $(cd test && find . -name '*Test.java' | sed 's|^\./||; s|\.java$||; s|/|.|g'); do
+    java -cp "$out" "$test" || status=1
+done
+exit $status